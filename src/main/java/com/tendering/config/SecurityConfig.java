@@ -32,6 +32,8 @@ public class SecurityConfig {
                         .requestMatchers("/reset-password.html").permitAll()
                         // SecurityConfig sınıfınıza endpoint bazlı yetkilendirme ekleyin
                         .requestMatchers("/api/products/**").permitAll()
+                        // Canlı ihale akışı; el sıkışma JwtHandshakeInterceptor ile doğrulanır (token sorgu parametresinde gelebilir)
+                        .requestMatchers("/ws/**").permitAll()
                         .requestMatchers("/api/auctions/**").hasAnyRole("USER", "ADMIN")
                         .requestMatchers("/api/bids/**").hasAnyRole("USER", "ADMIN")
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
@@ -1,21 +1,42 @@
 package com.tendering.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tendering.dto.common.CursorSlice;
+import com.tendering.dto.request.auction.AuctionBatchRequest;
 import com.tendering.dto.request.auction.AuctionCreateRequest;
 import com.tendering.dto.request.auction.AuctionUpdateRequest;
+import com.tendering.dto.request.auction.ChatMessageRequest;
+import com.tendering.dto.response.auction.AuctionBatchResponse;
+import com.tendering.dto.response.auction.AuctionImportSummary;
 import com.tendering.dto.response.auction.AuctionResponse;
+import com.tendering.dto.response.auction.ChatMessageResponse;
+import com.tendering.service.AuctionChatService;
 import com.tendering.service.AuctionCrudService;
+import com.tendering.service.AuctionImportService;
+import com.tendering.util.AuctionETagResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -25,7 +46,13 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AuctionController {
 
+    static final String NDJSON = "application/x-ndjson";
+
     private final AuctionCrudService auctionCrudService;
+    private final AuctionETagResolver auctionETagResolver;
+    private final AuctionImportService auctionImportService;
+    private final AuctionChatService auctionChatService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @PreAuthorize("hasRole('SELLER') or hasRole('ADMIN')")
@@ -40,6 +67,45 @@ public class AuctionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * NDJSON veya CSV (başlık satırlı) ihale kayıtlarını içe aktarır; her satırın sonucu
+     * NDJSON olarak akıtılır, son satır özet içerir
+     */
+    @PostMapping(value = "/import", consumes = {AuctionController.NDJSON, "text/csv"}, produces = AuctionController.NDJSON)
+    @PreAuthorize("hasRole('SELLER') or hasRole('ADMIN')")
+    public void importAuctions(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+
+        UUID sellerPublicId = extractUserPublicId(userDetails);
+        AuctionImportService.Format format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? AuctionImportService.Format.CSV
+                : AuctionImportService.Format.NDJSON;
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        Writer writer = response.getWriter();
+        try (Reader reader = new InputStreamReader(request.getInputStream(), charset)) {
+            AuctionImportSummary summary = auctionImportService.importAuctions(sellerPublicId, reader, format,
+                    row -> writeLine(writer, row));
+            writeLine(writer, summary);
+        }
+    }
+
+    private void writeLine(Writer writer, Object value) {
+        try {
+            writer.write(objectMapper.writeValueAsString(value));
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @PutMapping("/{publicId}")
     @PreAuthorize("hasRole('SELLER') or hasRole('ADMIN')")
     public ResponseEntity<AuctionResponse> updateAuction(
@@ -49,14 +115,24 @@ public class AuctionController {
         return ResponseEntity.ok(response);
     }
 
-    @GetMapping("/{publicId}")
-    public ResponseEntity<AuctionResponse> getAuctionById(@PathVariable UUID publicId) {
-        AuctionResponse response = auctionCrudService.getAuctionById(publicId);
-        // Increment view count when viewing auction details
-        auctionCrudService.incrementViewCount(publicId);
+    @PostMapping("/batch")
+    public ResponseEntity<AuctionBatchResponse> getAuctionsByIds(@Valid @RequestBody AuctionBatchRequest request) {
+        AuctionBatchResponse response = auctionCrudService.getAuctionsByIds(request.getPublicIds());
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{publicId}")
+    public ResponseEntity<AuctionResponse> getAuctionById(@PathVariable UUID publicId, WebRequest webRequest) {
+        // Polling clients get a 304 from the version lookup alone; repeat polls are not counted as views
+        String etag = auctionETagResolver.resolve(publicId).orElse(null);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        // Records the view (flushed to the database in batches) and returns the auction details
+        AuctionResponse response = auctionCrudService.incrementViewCount(publicId);
+        return etag != null ? ResponseEntity.ok().eTag(etag).body(response) : ResponseEntity.ok(response);
+    }
+
     @GetMapping
     public ResponseEntity<Page<AuctionResponse>> getAllAuctions(
             @PageableDefault(size = 20, sort = "createdAt") Pageable pageable) {
@@ -64,6 +140,64 @@ public class AuctionController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorSlice<AuctionResponse>> getAllAuctionsCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorSlice<AuctionResponse> response = auctionCrudService.getAllAuctionsCursor(cursor, size, includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/status/{status}/cursor")
+    public ResponseEntity<CursorSlice<AuctionResponse>> getAuctionsByStatusCursor(
+            @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorSlice<AuctionResponse> response = auctionCrudService.getAuctionsByStatusCursor(status, cursor, size, includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/type/{type}/cursor")
+    public ResponseEntity<CursorSlice<AuctionResponse>> getAuctionsByTypeCursor(
+            @PathVariable String type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorSlice<AuctionResponse> response = auctionCrudService.getAuctionsByTypeCursor(type, cursor, size, includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/seller/{sellerPublicId}/cursor")
+    public ResponseEntity<CursorSlice<AuctionResponse>> getAuctionsBySellerCursor(
+            @PathVariable UUID sellerPublicId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorSlice<AuctionResponse> response = auctionCrudService.getAuctionsBySellerCursor(sellerPublicId, cursor, size, includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/active/cursor")
+    public ResponseEntity<CursorSlice<AuctionResponse>> getActiveAuctionsCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorSlice<AuctionResponse> response = auctionCrudService.getActiveAuctionsCursor(cursor, size, includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/active/type/{type}/cursor")
+    public ResponseEntity<CursorSlice<AuctionResponse>> getActiveAuctionsByTypeCursor(
+            @PathVariable String type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorSlice<AuctionResponse> response = auctionCrudService.getActiveAuctionsByTypeCursor(type, cursor, size, includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/status/{status}")
     public ResponseEntity<Page<AuctionResponse>> getAuctionsByStatus(
             @PathVariable String status,
@@ -175,6 +309,25 @@ public class AuctionController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{publicId}/chat")
+    public ResponseEntity<List<ChatMessageResponse>> getChatMessages(
+            @PathVariable UUID publicId,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<ChatMessageResponse> response = auctionChatService.getRecentMessages(publicId, Math.max(1, Math.min(limit, 100)));
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{publicId}/chat")
+    @PreAuthorize("hasRole('BUYER') or hasRole('SELLER') or hasRole('ADMIN')")
+    public ResponseEntity<ChatMessageResponse> sendChatMessage(
+            @PathVariable UUID publicId,
+            @Valid @RequestBody ChatMessageRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        // Delivered to /ws/auctions/{publicId} subscribers as a CHAT message
+        ChatMessageResponse response = auctionChatService.send(publicId, extractUserPublicId(userDetails), request.getContent());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     // Helper method to extract user public ID from UserDetails
     private UUID extractUserPublicId(UserDetails userDetails) {
         if (userDetails == null) {
@@ -1,19 +1,30 @@
 package com.tendering.controller;
 
+import com.tendering.dto.common.CursorSlice;
 import com.tendering.dto.request.bid.BidCreateRequest;
+import com.tendering.dto.request.bid.ProxyBidRequest;
 import com.tendering.dto.response.bid.BidResponse;
+import com.tendering.dto.response.bid.ProxyBidResponse;
+import com.tendering.service.BidEventStreamService;
+import com.tendering.service.BidIdempotencyService;
 import com.tendering.service.BidService;
+import com.tendering.service.ProxyBidService;
+import com.tendering.util.AuctionETagResolver;
+import com.tendering.validator.bid.BidValidationResult;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -25,20 +36,37 @@ import java.util.UUID;
 public class BidController {
 
     private final BidService bidService;
+    private final ProxyBidService proxyBidService;
+    private final BidIdempotencyService bidIdempotencyService;
+    private final AuctionETagResolver auctionETagResolver;
+    private final BidEventStreamService bidEventStreamService;
 
     @PostMapping
     @PreAuthorize("hasRole('BUYER') or hasRole('SELLER')")
     public ResponseEntity<BidResponse> createBid(
             @Valid @RequestBody BidCreateRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal UserDetails userDetails) {
         
         // In a real application, you would extract the user ID from the UserDetails
         // For now, we'll need to get it from the request or session
         // This is a simplified approach - you'll need to implement proper user extraction
         UUID bidderPublicId = extractUserPublicId(userDetails);
-        
-        BidResponse response = bidService.createBid(request, bidderPublicId);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            BidResponse response = bidService.createBid(request, bidderPublicId);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        }
+        if (idempotencyKey.length() > 128) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // Retried requests with the same key get the original response instead of a second bid
+        BidIdempotencyService.Outcome outcome = bidIdempotencyService.execute(
+                bidderPublicId, idempotencyKey, request, () -> bidService.createBid(request, bidderPublicId));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header("Idempotent-Replayed", String.valueOf(outcome.replayed()))
+                .body(outcome.response());
     }
 
     @GetMapping("/{publicId}")
@@ -55,6 +83,28 @@ public class BidController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/auction/{auctionPublicId}/cursor")
+    public ResponseEntity<CursorSlice<BidResponse>> getBidsByAuctionCursor(
+            @PathVariable UUID auctionPublicId,
+            @RequestParam(defaultValue = "createdAt") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorSlice<BidResponse> response = bidService.getBidsByAuctionCursor(auctionPublicId, sort, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/my-bids/cursor")
+    @PreAuthorize("hasRole('BUYER') or hasRole('SELLER')")
+    public ResponseEntity<CursorSlice<BidResponse>> getMyBidsCursor(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        UUID bidderPublicId = extractUserPublicId(userDetails);
+        CursorSlice<BidResponse> response = bidService.getBidsByBidderCursor(bidderPublicId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/my-bids")
     @PreAuthorize("hasRole('BUYER') or hasRole('SELLER')")
     public ResponseEntity<Page<BidResponse>> getMyBids(
@@ -74,10 +124,24 @@ public class BidController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Teklif akışı (SSE); yeniden bağlanan istemci Last-Event-ID ile kaçırdığı teklifleri alır
+     */
+    @GetMapping(value = "/auction/{auctionPublicId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBids(
+            @PathVariable UUID auctionPublicId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return bidEventStreamService.subscribe(auctionPublicId, lastEventId);
+    }
+
     @GetMapping("/auction/{auctionPublicId}/highest-amount")
-    public ResponseEntity<BigDecimal> getHighestBidAmount(@PathVariable UUID auctionPublicId) {
+    public ResponseEntity<BigDecimal> getHighestBidAmount(@PathVariable UUID auctionPublicId, WebRequest webRequest) {
+        String etag = auctionETagResolver.resolve(auctionPublicId).orElse(null);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
         BigDecimal amount = bidService.getHighestBidAmount(auctionPublicId);
-        return ResponseEntity.ok(amount);
+        return etag != null ? ResponseEntity.ok().eTag(etag).body(amount) : ResponseEntity.ok(amount);
     }
 
     @GetMapping("/auction/{auctionPublicId}/count")
@@ -104,6 +168,39 @@ public class BidController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/proxy")
+    @PreAuthorize("hasRole('BUYER') or hasRole('SELLER')")
+    public ResponseEntity<ProxyBidResponse> placeProxyBid(
+            @Valid @RequestBody ProxyBidRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        UUID bidderPublicId = extractUserPublicId(userDetails);
+        ProxyBidResponse response = proxyBidService.placeProxyBid(request, bidderPublicId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping("/proxy/auction/{auctionPublicId}")
+    @PreAuthorize("hasRole('BUYER') or hasRole('SELLER')")
+    public ResponseEntity<ProxyBidResponse> getMyProxyBid(
+            @PathVariable UUID auctionPublicId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        UUID bidderPublicId = extractUserPublicId(userDetails);
+        ProxyBidResponse response = proxyBidService.getProxyBid(auctionPublicId, bidderPublicId);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/proxy/auction/{auctionPublicId}")
+    @PreAuthorize("hasRole('BUYER') or hasRole('SELLER')")
+    public ResponseEntity<ProxyBidResponse> cancelMyProxyBid(
+            @PathVariable UUID auctionPublicId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        UUID bidderPublicId = extractUserPublicId(userDetails);
+        ProxyBidResponse response = proxyBidService.cancelProxyBid(auctionPublicId, bidderPublicId);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/auction/{auctionPublicId}/can-bid")
     @PreAuthorize("hasRole('BUYER') or hasRole('SELLER')")
     public ResponseEntity<Boolean> canBid(
@@ -116,6 +213,18 @@ public class BidController {
         return ResponseEntity.ok(canBid);
     }
 
+    @GetMapping("/auction/{auctionPublicId}/validate")
+    @PreAuthorize("hasRole('BUYER') or hasRole('SELLER')")
+    public ResponseEntity<BidValidationResult> validateBid(
+            @PathVariable UUID auctionPublicId,
+            @RequestParam BigDecimal amount,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        UUID bidderPublicId = extractUserPublicId(userDetails);
+        BidValidationResult result = bidService.validateBid(auctionPublicId, bidderPublicId, amount);
+        return ResponseEntity.ok(result);
+    }
+
     // Helper method to extract user public ID from UserDetails
     private UUID extractUserPublicId(UserDetails userDetails) {
         if (userDetails == null) {
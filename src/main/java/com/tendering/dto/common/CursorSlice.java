@@ -0,0 +1,32 @@
+package com.tendering.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Toplam sayı hesaplamadan dönen sayfa; sonraki sayfa nextCursor ile istenir
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorSlice<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+    // Yalnızca istenirse doldurulur; akış sayfaları COUNT çalıştırmaz
+    private Long totalElements;
+
+    public static <E, T> CursorSlice<T> of(Slice<E> slice, Function<E, T> mapper, Function<E, String> cursorOf) {
+        List<E> rows = slice.getContent();
+        List<T> content = rows.stream().map(mapper).collect(Collectors.toList());
+        String nextCursor = slice.hasNext() && !rows.isEmpty() ? cursorOf.apply(rows.get(rows.size() - 1)) : null;
+        return new CursorSlice<>(content, nextCursor, slice.hasNext(), content.size(), null);
+    }
+}
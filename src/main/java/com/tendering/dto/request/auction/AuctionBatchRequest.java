@@ -0,0 +1,23 @@
+package com.tendering.dto.request.auction;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionBatchRequest {
+
+    @NotEmpty(message = "En az bir ihale kimliği gönderilmelidir")
+    @Size(max = 100, message = "Tek istekte en fazla 100 ihale istenebilir")
+    private List<@NotNull(message = "İhale kimliği boş olamaz") UUID> publicIds;
+}
@@ -0,0 +1,17 @@
+package com.tendering.dto.request.auction;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageRequest {
+
+    @NotBlank(message = "Mesaj boş olamaz")
+    @Size(max = 500, message = "Mesaj en fazla 500 karakter olabilir")
+    private String content;
+}
@@ -0,0 +1,22 @@
+package com.tendering.dto.response.auction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Toplu ihale sorgusunun sonucu; bulunanlar istek sırasıyla, bulunamayanlar ayrıca döner
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionBatchResponse {
+
+    private List<AuctionResponse> auctions;
+    private List<UUID> notFound;
+}
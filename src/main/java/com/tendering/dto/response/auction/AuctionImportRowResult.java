@@ -0,0 +1,40 @@
+package com.tendering.dto.response.auction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * İçe aktarılan tek bir satırın sonucu; satır numarası kaynak dosyadaki satırdır
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionImportRowResult {
+
+    private int line;
+    private String status; // CREATED, FAILED
+    private UUID publicId;
+    private List<String> errors;
+
+    public static AuctionImportRowResult created(int line, UUID publicId) {
+        return AuctionImportRowResult.builder()
+                .line(line)
+                .status("CREATED")
+                .publicId(publicId)
+                .build();
+    }
+
+    public static AuctionImportRowResult failed(int line, List<String> errors) {
+        return AuctionImportRowResult.builder()
+                .line(line)
+                .status("FAILED")
+                .errors(errors)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.tendering.dto.response.auction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * İçe aktarma akışının son satırı olarak gönderilen özet
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionImportSummary {
+
+    private int total;
+    private int created;
+    private int failed;
+    private boolean truncated;
+}
@@ -1,6 +1,7 @@
 package com.tendering.dto.response.auction;
 
 import com.tendering.model.Auction;
+import com.tendering.repository.AuctionRepository;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -39,6 +40,9 @@ public class AuctionResponse {
     private LocalDateTime updatedAt;
     private int productsCount;
     private int bidsCount;
+    private int distinctBidderCount;
+    private UUID leaderPublicId;
+    private LocalDateTime lastBidAt;
 
     public static AuctionResponse fromEntity(Auction auction) {
         return AuctionResponse.builder()
@@ -64,7 +68,41 @@ public class AuctionResponse {
                 .createdAt(auction.getCreatedAt())
                 .updatedAt(auction.getUpdatedAt())
                 .productsCount(auction.getProducts() != null ? auction.getProducts().size() : 0)
-                .bidsCount(auction.getBids() != null ? auction.getBids().size() : 0)
+                .bidsCount(auction.getBidCount() != null ? auction.getBidCount() : 0)
+                .distinctBidderCount(auction.getDistinctBidderCount() != null ? auction.getDistinctBidderCount() : 0)
+                .leaderPublicId(auction.getLeaderPublicId())
+                .lastBidAt(auction.getLastBidAt())
+                .build();
+    }
+
+    public static AuctionResponse fromView(AuctionRepository.ListView view) {
+        return AuctionResponse.builder()
+                .publicId(view.getPublicId())
+                .title(view.getTitle())
+                .description(view.getDescription())
+                .sellerPublicId(view.getSellerPublicId())
+                .sellerName(view.getSellerName() + " " + view.getSellerSurname())
+                .type(view.getType().name())
+                .startPrice(view.getStartPrice())
+                .currentPrice(view.getCurrentPrice())
+                .reservePrice(view.getReservePrice())
+                .minBidIncrement(view.getMinBidIncrement())
+                .startTime(view.getStartTime())
+                .endTime(view.getEndTime())
+                .status(view.getStatus())
+                .thumbnailUrl(view.getThumbnailUrl())
+                .isFeatured(view.getIsFeatured())
+                .viewCount(view.getViewCount())
+                .isLive(view.getIsLive())
+                .streamUrl(view.getStreamUrl())
+                .chatEnabled(view.getChatEnabled())
+                .createdAt(view.getCreatedAt())
+                .updatedAt(view.getUpdatedAt())
+                .productsCount(view.getProductsCount() != null ? view.getProductsCount().intValue() : 0)
+                .bidsCount(view.getBidCount() != null ? view.getBidCount() : 0)
+                .distinctBidderCount(view.getDistinctBidderCount() != null ? view.getDistinctBidderCount() : 0)
+                .leaderPublicId(view.getLeaderPublicId())
+                .lastBidAt(view.getLastBidAt())
                 .build();
     }
 }
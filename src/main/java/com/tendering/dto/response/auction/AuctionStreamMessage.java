@@ -0,0 +1,36 @@
+package com.tendering.dto.response.auction;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tendering.dto.response.bid.BidResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Canlı ihale akışında istemciye gönderilen mesaj.
+ * BID, BID_CANCELED, END_TIME_EXTENDED ve CLOSED olaydır; PRICE ise birleştirilen son durumdur.
+ * CHAT mesajları ayrı ve düşük öncelikli bir kuyruktan gönderilir.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AuctionStreamMessage {
+
+    private String type;
+    private UUID auctionPublicId;
+    private BidResponse bid;
+    private UUID bidPublicId;
+    private BigDecimal currentPrice;
+    private UUID leaderPublicId;
+    private LocalDateTime endTime;
+    private Boolean sold;
+    private ChatMessageResponse chat;
+    private LocalDateTime at;
+}
@@ -0,0 +1,35 @@
+package com.tendering.dto.response.auction;
+
+import com.tendering.repository.ChatMessageRepository;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageResponse {
+
+    private UUID publicId;
+    private UUID auctionPublicId;
+    private UUID senderPublicId;
+    private String senderName;
+    private String content;
+    private LocalDateTime createdAt;
+
+    public static ChatMessageResponse fromView(ChatMessageRepository.MessageView view) {
+        return ChatMessageResponse.builder()
+                .publicId(view.getPublicId())
+                .auctionPublicId(view.getAuctionPublicId())
+                .senderPublicId(view.getSenderPublicId())
+                .senderName(view.getSenderName())
+                .content(view.getContent())
+                .createdAt(view.getCreatedAt())
+                .build();
+    }
+}
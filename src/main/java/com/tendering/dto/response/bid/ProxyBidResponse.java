@@ -0,0 +1,38 @@
+package com.tendering.dto.response.bid;
+
+import com.tendering.model.ProxyBid;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProxyBidResponse {
+
+    private UUID publicId;
+    private UUID auctionPublicId;
+    private BigDecimal maxAmount;
+    private String status;
+    private BigDecimal currentPrice;
+    private boolean leading;
+    private LocalDateTime updatedAt;
+
+    public static ProxyBidResponse fromEntity(ProxyBid proxyBid, BigDecimal currentPrice, boolean leading) {
+        return ProxyBidResponse.builder()
+                .publicId(proxyBid.getPublicId())
+                .auctionPublicId(proxyBid.getAuction().getPublicId())
+                .maxAmount(proxyBid.getMaxAmount())
+                .status(proxyBid.getStatus())
+                .currentPrice(currentPrice)
+                .leading(leading)
+                .updatedAt(proxyBid.getUpdatedAt())
+                .build();
+    }
+}
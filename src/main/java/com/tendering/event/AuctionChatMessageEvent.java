@@ -0,0 +1,22 @@
+package com.tendering.event;
+
+import com.tendering.dto.response.auction.ChatMessageResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Canlı ihale sohbetine bir mesaj kabul edildiğinde yayınlanır
+ */
+@Getter
+@AllArgsConstructor
+public class AuctionChatMessageEvent implements ClusterEvent {
+    private final UUID auctionPublicId;
+    private final ChatMessageResponse message;
+    private final boolean remote;
+
+    public AuctionChatMessageEvent(UUID auctionPublicId, ChatMessageResponse message) {
+        this(auctionPublicId, message, false);
+    }
+}
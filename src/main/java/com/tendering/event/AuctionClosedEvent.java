@@ -0,0 +1,28 @@
+package com.tendering.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * İhale kapandığında (bitiş zamanında otomatik, manuel tamamlama veya iptal) yayınlanır;
+ * satış yoksa kazanan alanları boştur
+ */
+@Getter
+@AllArgsConstructor
+public class AuctionClosedEvent implements ClusterEvent {
+
+    private final UUID auctionPublicId;
+    private final boolean sold;
+    private final UUID winningBidPublicId;
+    private final UUID winnerPublicId;
+    private final BigDecimal finalPrice;
+    private final boolean remote;
+
+    public AuctionClosedEvent(UUID auctionPublicId, boolean sold, UUID winningBidPublicId, UUID winnerPublicId,
+                              BigDecimal finalPrice) {
+        this(auctionPublicId, sold, winningBidPublicId, winnerPublicId, finalPrice, false);
+    }
+}
@@ -0,0 +1,18 @@
+package com.tendering.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Takip edilen bir ihalenin (uzatılmış olabilecek) bitiş zamanı geldiğinde yayınlanır
+ */
+@Getter
+@AllArgsConstructor
+public class AuctionEndReachedEvent {
+
+    private final UUID auctionPublicId;
+    private final LocalDateTime reachedAt;
+}
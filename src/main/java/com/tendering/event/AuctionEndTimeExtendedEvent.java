@@ -0,0 +1,24 @@
+package com.tendering.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Son saniye teklifi nedeniyle ihalenin bitiş zamanı uzatıldığında yayınlanır
+ */
+@Getter
+@AllArgsConstructor
+public class AuctionEndTimeExtendedEvent implements ClusterEvent {
+
+    private final UUID auctionPublicId;
+    private final LocalDateTime previousEndTime;
+    private final LocalDateTime endTime;
+    private final boolean remote;
+
+    public AuctionEndTimeExtendedEvent(UUID auctionPublicId, LocalDateTime previousEndTime, LocalDateTime endTime) {
+        this(auctionPublicId, previousEndTime, endTime, false);
+    }
+}
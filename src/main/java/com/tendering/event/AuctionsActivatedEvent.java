@@ -0,0 +1,23 @@
+package com.tendering.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Zamanlayıcı bekleyen ihaleleri toplu olarak aktifleştirdiğinde yayınlanır
+ */
+@Getter
+@AllArgsConstructor
+public class AuctionsActivatedEvent implements ClusterEvent {
+
+    private final int activatedCount;
+    private final List<UUID> auctionPublicIds;
+    private final boolean remote;
+
+    public AuctionsActivatedEvent(int activatedCount, List<UUID> auctionPublicIds) {
+        this(activatedCount, auctionPublicIds, false);
+    }
+}
@@ -0,0 +1,25 @@
+package com.tendering.event;
+
+import com.tendering.dto.response.bid.BidResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Bir teklif kalıcı olarak kaydedildikten (commit) sonra yayınlanır
+ */
+@Getter
+@AllArgsConstructor
+public class BidAcceptedEvent implements ClusterEvent {
+
+    private final UUID auctionPublicId;
+    private final BidResponse bid;
+    // Bu teklifle geçilen lider; ilk teklifte veya lider kendi teklifini artırdıysa boş/aynı olabilir
+    private final UUID previousLeaderPublicId;
+    private final boolean remote;
+
+    public BidAcceptedEvent(UUID auctionPublicId, BidResponse bid, UUID previousLeaderPublicId) {
+        this(auctionPublicId, bid, previousLeaderPublicId, false);
+    }
+}
@@ -0,0 +1,22 @@
+package com.tendering.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Aktif bir teklif iptal edildiğinde yayınlanır
+ */
+@Getter
+@AllArgsConstructor
+public class BidCanceledEvent implements ClusterEvent {
+
+    private final UUID auctionPublicId;
+    private final UUID bidPublicId;
+    private final boolean remote;
+
+    public BidCanceledEvent(UUID auctionPublicId, UUID bidPublicId) {
+        this(auctionPublicId, bidPublicId, false);
+    }
+}
@@ -0,0 +1,11 @@
+package com.tendering.event;
+
+/**
+ * Tüm node'lara dağıtılan alan olayları.
+ * Başka bir node'dan gelen kopyalarda isRemote() true döner; paylaşılan kaynaklara (Redis, e-posta)
+ * yazan dinleyiciler bu kopyaları atlamalıdır, yerel önbellek ve itme kanalları ise işlemelidir.
+ */
+public interface ClusterEvent {
+
+    boolean isRemote();
+}
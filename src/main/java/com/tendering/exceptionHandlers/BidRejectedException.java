@@ -0,0 +1,15 @@
+package com.tendering.exceptionHandlers;
+
+public class BidRejectedException extends IllegalStateException {
+
+    private final String rule;
+
+    public BidRejectedException(String rule, String message) {
+        super(message);
+        this.rule = rule;
+    }
+
+    public String getRule() {
+        return rule;
+    }
+}
@@ -0,0 +1,8 @@
+package com.tendering.exceptionHandlers;
+
+public class ChatUnavailableException extends IllegalStateException {
+
+    public ChatUnavailableException(String message) {
+        super(message);
+    }
+}
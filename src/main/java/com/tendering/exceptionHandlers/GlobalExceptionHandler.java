@@ -1,6 +1,7 @@
 package com.tendering.exceptionHandlers;
 
 import com.tendering.dto.common.ApiResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -20,6 +21,37 @@ public class GlobalExceptionHandler {
             .body(ApiResponse.error(ex.getMessage()));
   }
 
+  @ExceptionHandler(IdempotencyConflictException.class)
+  public ResponseEntity<ApiResponse<String>> handleIdempotencyConflictException(IdempotencyConflictException ex) {
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(ApiResponse.error(ex.getMessage()));
+  }
+
+  @ExceptionHandler(BidRejectedException.class)
+  public ResponseEntity<ApiResponse<String>> handleBidRejectedException(BidRejectedException ex) {
+    return ResponseEntity.unprocessableEntity()
+            .body(ApiResponse.error(ex.getMessage(), ex.getRule()));
+  }
+
+  @ExceptionHandler(ChatUnavailableException.class)
+  public ResponseEntity<ApiResponse<String>> handleChatUnavailableException(ChatUnavailableException ex) {
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(ApiResponse.error(ex.getMessage()));
+  }
+
+  @ExceptionHandler(RateLimitExceededException.class)
+  public ResponseEntity<ApiResponse<String>> handleRateLimitExceededException(RateLimitExceededException ex) {
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(ApiResponse.error(ex.getMessage()));
+  }
+
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<ApiResponse<String>> handleInvalidCursorException(InvalidCursorException ex) {
+    return ResponseEntity.badRequest()
+            .body(ApiResponse.error(ex.getMessage()));
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationExceptions(MethodArgumentNotValidException ex) {
     Map<String, String> errors = new HashMap<>();
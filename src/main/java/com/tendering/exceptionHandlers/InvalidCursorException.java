@@ -0,0 +1,7 @@
+package com.tendering.exceptionHandlers;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
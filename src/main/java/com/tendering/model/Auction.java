@@ -12,7 +12,14 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "auctions")
+@Table(name = "auctions", indexes = {
+        @Index(name = "idx_auctions_status_end_time", columnList = "status, end_time"),
+        @Index(name = "idx_auctions_status_start_time", columnList = "status, start_time"),
+        @Index(name = "idx_auctions_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_auctions_status_created_at_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_auctions_type_created_at_id", columnList = "type, created_at, id"),
+        @Index(name = "idx_auctions_seller_created_at_id", columnList = "seller_id, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -53,6 +60,10 @@ public class Auction {
     @Column(name = "min_bid_increment", precision = 19, scale = 2)
     private BigDecimal minBidIncrement;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     @Column(name = "start_time", nullable = false)
     private LocalDateTime startTime;
 
@@ -68,7 +79,8 @@ public class Auction {
     @Column(name = "is_featured")
     private Boolean isFeatured;
 
-    @Column(name = "view_count")
+    // Yalnızca ViewCountAggregator'ın toplu UPDATE'i yazar; entity kayıtları birikmiş sayacı ezmesin
+    @Column(name = "view_count", updatable = false)
     private Integer viewCount;
 
     @Column(name = "is_live")
@@ -80,6 +92,19 @@ public class Auction {
     @Column(name = "chat_enabled")
     private Boolean chatEnabled;
 
+    // --- TEKLİF ÖZETLERİ (teklif kabul/iptal ile güncellenir) ---
+    @Column(name = "bid_count", nullable = false, columnDefinition = "INTEGER DEFAULT 0")
+    private Integer bidCount;
+
+    @Column(name = "distinct_bidder_count", nullable = false, columnDefinition = "INTEGER DEFAULT 0")
+    private Integer distinctBidderCount;
+
+    @Column(name = "leader_public_id")
+    private UUID leaderPublicId;
+
+    @Column(name = "last_bid_at")
+    private LocalDateTime lastBidAt;
+
     @OneToMany(mappedBy = "auction", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Product> products = new HashSet<>();
 
@@ -124,5 +149,11 @@ public class Auction {
         if (this.chatEnabled == null) {
             this.chatEnabled = true;
         }
+        if (this.bidCount == null) {
+            this.bidCount = 0;
+        }
+        if (this.distinctBidderCount == null) {
+            this.distinctBidderCount = 0;
+        }
     }
 }
\ No newline at end of file
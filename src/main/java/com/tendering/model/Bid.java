@@ -9,7 +9,11 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "bids")
+@Table(name = "bids", indexes = {
+        @Index(name = "idx_bids_auction_created", columnList = "auction_id, created_at, id"),
+        @Index(name = "idx_bids_auction_amount", columnList = "auction_id, amount, id"),
+        @Index(name = "idx_bids_bidder_created", columnList = "bidder_id, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,49 @@
+package com.tendering.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "chat_messages", indexes = {
+        @Index(name = "idx_chat_messages_auction_created", columnList = "auction_id, created_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "public_id", unique = true, nullable = false, updatable = false)
+    private UUID publicId;
+
+    // İhale silinince sohbet geçmişi de veritabanında silinir; mesajlar entity üzerinden yüklenmez
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "auction_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Auction auction;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "sender_id", nullable = false)
+    private User sender;
+
+    // Gönderim anındaki görünen ad; geçmiş okunurken kullanıcı tablosuna gidilmez
+    @Column(name = "sender_name", nullable = false)
+    private String senderName;
+
+    @Column(nullable = false, length = 500)
+    private String content;
+
+    // Sunucu mesajı kabul ettiği anda atanır; kalıcı kayıt toplu olarak sonradan yapılır
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
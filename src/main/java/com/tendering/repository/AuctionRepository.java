@@ -4,12 +4,16 @@ import com.tendering.model.Auction;
 import com.tendering.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,29 +23,299 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> {
 
     Optional<Auction> findByPublicId(UUID publicId);
 
-    Page<Auction> findByStatus(String status, Pageable pageable);
+    @Query("SELECT a FROM Auction a JOIN FETCH a.seller WHERE a.publicId = :publicId")
+    Optional<Auction> findWithSellerByPublicId(@Param("publicId") UUID publicId);
 
-    Page<Auction> findByType(Auction.AuctionType type, Pageable pageable);
+    /**
+     * Koşullu GET için yalnızca sürüm numarasını okur; teklif, durum ve kapanış güncellemeleri sürümü artırır
+     */
+    @Query("SELECT a.version FROM Auction a WHERE a.publicId = :publicId")
+    Optional<Long> findVersionByPublicId(@Param("publicId") UUID publicId);
 
-    Page<Auction> findByTypeAndStatus(Auction.AuctionType type, String status, Pageable pageable);
+    // --- Listeleme projeksiyonları (satıcı adı ve ürün sayısı tek sorguda) ---
 
-    Page<Auction> findBySeller(User seller, Pageable pageable);
+    String LIST_VIEW_SELECT = "SELECT a.id AS id, a.publicId AS publicId, a.title AS title, a.description AS description, " +
+            "s.publicId AS sellerPublicId, s.name AS sellerName, s.surname AS sellerSurname, a.type AS type, " +
+            "a.startPrice AS startPrice, a.currentPrice AS currentPrice, a.reservePrice AS reservePrice, " +
+            "a.minBidIncrement AS minBidIncrement, a.startTime AS startTime, a.endTime AS endTime, " +
+            "a.status AS status, a.thumbnailUrl AS thumbnailUrl, a.isFeatured AS isFeatured, " +
+            "a.viewCount AS viewCount, a.isLive AS isLive, a.streamUrl AS streamUrl, a.chatEnabled AS chatEnabled, " +
+            "a.createdAt AS createdAt, a.updatedAt AS updatedAt, " +
+            "(SELECT COUNT(p) FROM Product p WHERE p.auction = a) AS productsCount, " +
+            "a.bidCount AS bidCount, a.distinctBidderCount AS distinctBidderCount, " +
+            "a.leaderPublicId AS leaderPublicId, a.lastBidAt AS lastBidAt " +
+            "FROM Auction a JOIN a.seller s";
 
-    @Query("SELECT a FROM Auction a WHERE a.startTime <= :now AND a.endTime >= :now AND a.status = 'ACTIVE'")
-    Page<Auction> findActiveAuctions(@Param("now") LocalDateTime now, Pageable pageable);
+    @Query(value = LIST_VIEW_SELECT,
+            countQuery = "SELECT COUNT(a) FROM Auction a")
+    Page<ListView> findAllViews(Pageable pageable);
 
-    @Query("SELECT a FROM Auction a WHERE a.type = :type AND a.startTime <= :now AND a.endTime >= :now AND a.status = 'ACTIVE'")
-    Page<Auction> findActiveAuctionsByType(@Param("type") Auction.AuctionType type, @Param("now") LocalDateTime now, Pageable pageable);
+    @Query(value = LIST_VIEW_SELECT + " WHERE a.status = :status",
+            countQuery = "SELECT COUNT(a) FROM Auction a WHERE a.status = :status")
+    Page<ListView> findViewsByStatus(@Param("status") String status, Pageable pageable);
 
-    @Query("SELECT a FROM Auction a WHERE a.startTime BETWEEN :start AND :end AND a.status = 'PENDING'")
-    List<Auction> findUpcomingAuctions(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    @Query(value = LIST_VIEW_SELECT + " WHERE a.type = :type",
+            countQuery = "SELECT COUNT(a) FROM Auction a WHERE a.type = :type")
+    Page<ListView> findViewsByType(@Param("type") Auction.AuctionType type, Pageable pageable);
 
-    @Query("SELECT a FROM Auction a WHERE a.endTime BETWEEN :now AND :endTime AND a.status = 'ACTIVE'")
-    List<Auction> findEndingSoonAuctions(@Param("now") LocalDateTime now, @Param("endTime") LocalDateTime endTime);
+    @Query(value = LIST_VIEW_SELECT + " WHERE a.seller = :seller",
+            countQuery = "SELECT COUNT(a) FROM Auction a WHERE a.seller = :seller")
+    Page<ListView> findViewsBySeller(@Param("seller") User seller, Pageable pageable);
 
-    @Query("SELECT a FROM Auction a WHERE a.isFeatured = true AND a.status = 'ACTIVE'")
-    List<Auction> findFeaturedAuctions();
+    @Query(value = LIST_VIEW_SELECT + " WHERE a.startTime <= :now AND a.endTime >= :now AND a.status = 'ACTIVE'",
+            countQuery = "SELECT COUNT(a) FROM Auction a WHERE a.startTime <= :now AND a.endTime >= :now AND a.status = 'ACTIVE'")
+    Page<ListView> findActiveViews(@Param("now") LocalDateTime now, Pageable pageable);
 
-    @Query("SELECT a FROM Auction a WHERE a.isLive = true AND a.status = 'ACTIVE'")
-    List<Auction> findLiveAuctions();
-}
\ No newline at end of file
+    @Query(value = LIST_VIEW_SELECT + " WHERE a.type = :type AND a.startTime <= :now AND a.endTime >= :now AND a.status = 'ACTIVE'",
+            countQuery = "SELECT COUNT(a) FROM Auction a WHERE a.type = :type AND a.startTime <= :now AND a.endTime >= :now AND a.status = 'ACTIVE'")
+    Page<ListView> findActiveViewsByType(@Param("type") Auction.AuctionType type, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query(LIST_VIEW_SELECT + " WHERE a.startTime BETWEEN :start AND :end AND a.status = 'PENDING'")
+    List<ListView> findUpcomingViews(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query(LIST_VIEW_SELECT + " WHERE a.endTime BETWEEN :now AND :endTime AND a.status = 'ACTIVE'")
+    List<ListView> findEndingSoonViews(@Param("now") LocalDateTime now, @Param("endTime") LocalDateTime endTime);
+
+    @Query(LIST_VIEW_SELECT + " WHERE a.isFeatured = true AND a.status = 'ACTIVE'")
+    List<ListView> findFeaturedViews();
+
+    @Query(LIST_VIEW_SELECT + " WHERE a.isLive = true AND a.status = 'ACTIVE'")
+    List<ListView> findLiveViews();
+
+    @Query(LIST_VIEW_SELECT + " WHERE a.publicId IN :publicIds")
+    List<ListView> findViewsByPublicIds(@Param("publicIds") Collection<UUID> publicIds);
+
+    // --- Keyset akışları (COUNT yok; ilk sayfa için imleç olarak sınır değerler verilir) ---
+
+    @Query(LIST_VIEW_SELECT + " WHERE (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<ListView> findViewFeed(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(LIST_VIEW_SELECT + " WHERE a.status = :status " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<ListView> findViewFeedByStatus(@Param("status") String status,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    @Query(LIST_VIEW_SELECT + " WHERE a.type = :type " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<ListView> findViewFeedByType(@Param("type") Auction.AuctionType type,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    @Query(LIST_VIEW_SELECT + " WHERE a.seller = :seller " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<ListView> findViewFeedBySeller(@Param("seller") User seller,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    @Query(LIST_VIEW_SELECT + " WHERE a.status = 'ACTIVE' AND a.startTime <= :now AND a.endTime >= :now " +
+            "AND (a.endTime > :endTime OR (a.endTime = :endTime AND a.id > :id)) " +
+            "ORDER BY a.endTime ASC, a.id ASC")
+    Slice<ListView> findActiveViewFeed(@Param("now") LocalDateTime now,
+                                       @Param("endTime") LocalDateTime endTime,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    @Query(LIST_VIEW_SELECT + " WHERE a.status = 'ACTIVE' AND a.type = :type AND a.startTime <= :now AND a.endTime >= :now " +
+            "AND (a.endTime > :endTime OR (a.endTime = :endTime AND a.id > :id)) " +
+            "ORDER BY a.endTime ASC, a.id ASC")
+    Slice<ListView> findActiveViewFeedByType(@Param("type") Auction.AuctionType type,
+                                             @Param("now") LocalDateTime now,
+                                             @Param("endTime") LocalDateTime endTime,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    long countByStatus(String status);
+
+    long countByType(Auction.AuctionType type);
+
+    long countBySeller(User seller);
+
+    @Query("SELECT COUNT(a) FROM Auction a WHERE a.status = 'ACTIVE' AND a.startTime <= :now AND a.endTime >= :now")
+    long countActive(@Param("now") LocalDateTime now);
+
+    @Query("SELECT COUNT(a) FROM Auction a WHERE a.status = 'ACTIVE' AND a.type = :type AND a.startTime <= :now AND a.endTime >= :now")
+    long countActiveByType(@Param("type") Auction.AuctionType type, @Param("now") LocalDateTime now);
+
+    /**
+     * Fiyatı yalnızca güncel fiyat + minimum artış floorAmount'u aşmıyorsa ilerletir ve teklif özetlerini günceller.
+     * Soft-close uzatması da aynı güncellemeyle yazılır; zaman kontrolü uzatılmadan önceki bitişe göre yapılır.
+     * Etkilenen satır sayısı 0 ise fiyat başka bir yazıcı tarafından değiştirilmiştir.
+     */
+    @Modifying
+    @Query("UPDATE Auction a SET a.currentPrice = :newPrice, a.leaderPublicId = :leaderPublicId, " +
+            "a.bidCount = a.bidCount + :bidDelta, a.distinctBidderCount = a.distinctBidderCount + :newBidderDelta, " +
+            "a.lastBidAt = :now, a.endTime = :endTime, a.updatedAt = :now, a.version = a.version + 1 " +
+            "WHERE a.id = :id AND a.status = 'ACTIVE' AND a.startTime <= :now AND a.endTime >= :now " +
+            "AND a.currentPrice + a.minBidIncrement <= :floorAmount")
+    int advanceCurrentPrice(@Param("id") Long id,
+                            @Param("floorAmount") BigDecimal floorAmount,
+                            @Param("newPrice") BigDecimal newPrice,
+                            @Param("leaderPublicId") UUID leaderPublicId,
+                            @Param("bidDelta") int bidDelta,
+                            @Param("newBidderDelta") int newBidderDelta,
+                            @Param("endTime") LocalDateTime endTime,
+                            @Param("now") LocalDateTime now);
+
+    /**
+     * Tek bir ihalenin teklif özetlerini bids tablosundan yeniden hesaplar
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE auctions a SET " +
+            "bid_count = (SELECT COUNT(*) FROM bids b WHERE b.auction_id = a.id), " +
+            "distinct_bidder_count = (SELECT COUNT(DISTINCT b.bidder_id) FROM bids b WHERE b.auction_id = a.id), " +
+            "last_bid_at = (SELECT MAX(b.created_at) FROM bids b WHERE b.auction_id = a.id), " +
+            "leader_public_id = (SELECT u.public_id FROM bids b JOIN tendering_users u ON u.id = b.bidder_id " +
+            "WHERE b.auction_id = a.id AND b.status = 'ACTIVE' ORDER BY b.amount DESC, b.id ASC LIMIT 1), " +
+            "version = a.version + 1 " +
+            "WHERE a.id = :id", nativeQuery = true)
+    int recomputeBidAggregates(@Param("id") Long id);
+
+    /**
+     * Aktif ihalelerin teklif özetlerini toplu olarak yeniden hesaplar; yalnızca sapma olan satırlar güncellenir
+     */
+    @Modifying
+    @Query(value = "UPDATE auctions a SET bid_count = s.bid_count, distinct_bidder_count = s.distinct_bidder_count, " +
+            "last_bid_at = s.last_bid_at, leader_public_id = s.leader_public_id, version = a.version + 1 " +
+            "FROM (SELECT x.id, " +
+            "(SELECT COUNT(*) FROM bids b WHERE b.auction_id = x.id) AS bid_count, " +
+            "(SELECT COUNT(DISTINCT b.bidder_id) FROM bids b WHERE b.auction_id = x.id) AS distinct_bidder_count, " +
+            "(SELECT MAX(b.created_at) FROM bids b WHERE b.auction_id = x.id) AS last_bid_at, " +
+            "(SELECT u.public_id FROM bids b JOIN tendering_users u ON u.id = b.bidder_id " +
+            "WHERE b.auction_id = x.id AND b.status = 'ACTIVE' ORDER BY b.amount DESC, b.id ASC LIMIT 1) AS leader_public_id " +
+            "FROM auctions x WHERE x.status IN ('PENDING', 'ACTIVE')) s " +
+            "WHERE a.id = s.id AND (a.bid_count IS DISTINCT FROM s.bid_count " +
+            "OR a.distinct_bidder_count IS DISTINCT FROM s.distinct_bidder_count " +
+            "OR a.last_bid_at IS DISTINCT FROM s.last_bid_at " +
+            "OR a.leader_public_id IS DISTINCT FROM s.leader_public_id)", nativeQuery = true)
+    int repairOpenAuctionBidAggregates();
+
+    // --- Otomatik başlatma ---
+
+    @Query("SELECT a.publicId AS publicId, a.startTime AS startTime, a.endTime AS endTime FROM Auction a " +
+            "WHERE a.startTime BETWEEN :start AND :end AND a.status = 'PENDING'")
+    List<StartTimeView> findUpcomingStartTimes(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * Başlangıç zamanı gelmiş tüm bekleyen ihaleleri tek sorguda aktifleştirir ve yalnızca bu çağrının
+     * aktifleştirdiklerini döner; aynı anda çalışan başka bir node'un aldıkları listede yer almaz
+     */
+    @Query(value = "UPDATE auctions SET status = 'ACTIVE', updated_at = :now, version = version + 1 " +
+            "WHERE status = 'PENDING' AND start_time <= :now RETURNING public_id", nativeQuery = true)
+    List<UUID> activateDueAuctions(@Param("now") LocalDateTime now);
+
+    @Query("SELECT a.publicId AS publicId, a.endTime AS endTime FROM Auction a WHERE a.publicId IN :publicIds")
+    List<EndTimeView> findEndTimesByPublicIds(@Param("publicIds") Collection<UUID> publicIds);
+
+    // --- Otomatik kapanış ---
+
+    @Query("SELECT a.publicId AS publicId, a.endTime AS endTime FROM Auction a WHERE a.status = 'ACTIVE'")
+    List<EndTimeView> findActiveEndTimes();
+
+    @Query("SELECT a.publicId FROM Auction a WHERE a.status = 'ACTIVE' AND a.endTime <= :now")
+    List<UUID> findOverdueActivePublicIds(@Param("now") LocalDateTime now);
+
+    /**
+     * İhaleyi yalnızca hâlâ aktifse ve (uzatmalar dahil) bitiş zamanı geçtiyse kapatır.
+     * Satır kilidi teklif güncellemesiyle sıralandığı için kapanıştan sonra teklif yazılamaz.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Auction a SET a.status = 'COMPLETED', a.updatedAt = :now, a.version = a.version + 1 " +
+            "WHERE a.id = :id AND a.status = 'ACTIVE' AND a.endTime <= :now")
+    int closeIfEnded(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // --- Canlı sohbet ---
+
+    @Query("SELECT a.type AS type, a.status AS status, a.isLive AS isLive, a.chatEnabled AS chatEnabled " +
+            "FROM Auction a WHERE a.publicId = :publicId")
+    Optional<ChatStateView> findChatStateByPublicId(@Param("publicId") UUID publicId);
+
+    interface ListView {
+        Long getId();
+
+        UUID getPublicId();
+
+        String getTitle();
+
+        String getDescription();
+
+        UUID getSellerPublicId();
+
+        String getSellerName();
+
+        String getSellerSurname();
+
+        Auction.AuctionType getType();
+
+        BigDecimal getStartPrice();
+
+        BigDecimal getCurrentPrice();
+
+        BigDecimal getReservePrice();
+
+        BigDecimal getMinBidIncrement();
+
+        LocalDateTime getStartTime();
+
+        LocalDateTime getEndTime();
+
+        String getStatus();
+
+        String getThumbnailUrl();
+
+        Boolean getIsFeatured();
+
+        Integer getViewCount();
+
+        Boolean getIsLive();
+
+        String getStreamUrl();
+
+        Boolean getChatEnabled();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+
+        Long getProductsCount();
+
+        Integer getBidCount();
+
+        Integer getDistinctBidderCount();
+
+        UUID getLeaderPublicId();
+
+        LocalDateTime getLastBidAt();
+    }
+
+    interface StartTimeView {
+        UUID getPublicId();
+
+        LocalDateTime getStartTime();
+
+        LocalDateTime getEndTime();
+    }
+
+    interface EndTimeView {
+        UUID getPublicId();
+
+        LocalDateTime getEndTime();
+    }
+
+    interface ChatStateView {
+        Auction.AuctionType getType();
+
+        String getStatus();
+
+        Boolean getIsLive();
+
+        Boolean getChatEnabled();
+    }
+}
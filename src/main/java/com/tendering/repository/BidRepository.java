@@ -5,12 +5,14 @@ import com.tendering.model.Bid;
 import com.tendering.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,6 +22,9 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
 
     Optional<Bid> findByPublicId(UUID publicId);
 
+    @Query("SELECT b.auction.publicId FROM Bid b WHERE b.publicId = :publicId")
+    Optional<UUID> findAuctionPublicIdByPublicId(@Param("publicId") UUID publicId);
+
     List<Bid> findByAuctionOrderByAmountDesc(Auction auction);
 
     Page<Bid> findByBidder(User bidder, Pageable pageable);
@@ -29,12 +34,59 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
     @Query("SELECT b FROM Bid b WHERE b.auction = :auction AND b.status = 'ACTIVE' ORDER BY b.amount DESC")
     List<Bid> findActiveHighestBidsByAuction(@Param("auction") Auction auction, Pageable pageable);
 
+    @Query("SELECT b FROM Bid b JOIN FETCH b.bidder JOIN FETCH b.auction WHERE b.auction.publicId = :auctionPublicId AND b.status = 'ACTIVE'")
+    List<Bid> findActiveWithBidderByAuctionPublicId(@Param("auctionPublicId") UUID auctionPublicId);
+
     @Query("SELECT MAX(b.amount) FROM Bid b WHERE b.auction = :auction AND b.status = 'ACTIVE'")
     Optional<BigDecimal> findHighestBidAmount(@Param("auction") Auction auction);
 
+    @Query("SELECT b.bidder.publicId FROM Bid b WHERE b.auction.id = :auctionId AND b.status = 'ACTIVE' ORDER BY b.amount DESC, b.id ASC")
+    List<UUID> findLeaderPublicIds(@Param("auctionId") Long auctionId, Pageable pageable);
+
+    @Query("SELECT DISTINCT b.bidder.publicId FROM Bid b WHERE b.auction.id = :auctionId")
+    List<UUID> findDistinctBidderPublicIds(@Param("auctionId") Long auctionId);
+
     @Query("SELECT COUNT(b) FROM Bid b WHERE b.auction = :auction")
     Long countBidsByAuction(@Param("auction") Auction auction);
 
     @Query("SELECT b FROM Bid b WHERE b.auction = :auction AND b.bidder = :bidder ORDER BY b.createdAt DESC")
     List<Bid> findByAuctionAndBidder(@Param("auction") Auction auction, @Param("bidder") User bidder);
-}
\ No newline at end of file
+
+    // --- Keyset sayfalama: OFFSET/COUNT yerine son satırın (sıralama anahtarı, id) değerinden devam eder ---
+
+    @Query("SELECT b FROM Bid b JOIN FETCH b.bidder JOIN FETCH b.auction WHERE b.auction.id = :auctionId " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<Bid> findRecentByAuctionId(@Param("auctionId") Long auctionId, Pageable pageable);
+
+    @Query("SELECT b FROM Bid b JOIN FETCH b.bidder JOIN FETCH b.auction WHERE b.auction.id = :auctionId " +
+            "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<Bid> findRecentByAuctionIdAfter(@Param("auctionId") Long auctionId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    @Query("SELECT b FROM Bid b JOIN FETCH b.bidder JOIN FETCH b.auction WHERE b.auction.id = :auctionId " +
+            "ORDER BY b.amount DESC, b.id DESC")
+    Slice<Bid> findByAmountByAuctionId(@Param("auctionId") Long auctionId, Pageable pageable);
+
+    @Query("SELECT b FROM Bid b JOIN FETCH b.bidder JOIN FETCH b.auction WHERE b.auction.id = :auctionId " +
+            "AND (b.amount < :amount OR (b.amount = :amount AND b.id < :id)) " +
+            "ORDER BY b.amount DESC, b.id DESC")
+    Slice<Bid> findByAmountByAuctionIdAfter(@Param("auctionId") Long auctionId,
+                                            @Param("amount") BigDecimal amount,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    @Query("SELECT b FROM Bid b JOIN FETCH b.bidder JOIN FETCH b.auction WHERE b.bidder.id = :bidderId " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<Bid> findRecentByBidderId(@Param("bidderId") Long bidderId, Pageable pageable);
+
+    @Query("SELECT b FROM Bid b JOIN FETCH b.bidder JOIN FETCH b.auction WHERE b.bidder.id = :bidderId " +
+            "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<Bid> findRecentByBidderIdAfter(@Param("bidderId") Long bidderId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+}
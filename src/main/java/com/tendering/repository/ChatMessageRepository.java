@@ -0,0 +1,39 @@
+package com.tendering.repository;
+
+import com.tendering.model.ChatMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+
+    /**
+     * İhalenin en yeni mesajları, yeniden eskiye
+     */
+    @Query("SELECT m.publicId AS publicId, a.publicId AS auctionPublicId, s.publicId AS senderPublicId, " +
+            "m.senderName AS senderName, m.content AS content, m.createdAt AS createdAt " +
+            "FROM ChatMessage m JOIN m.auction a JOIN m.sender s " +
+            "WHERE a.publicId = :auctionPublicId ORDER BY m.createdAt DESC, m.id DESC")
+    List<MessageView> findRecentViews(@Param("auctionPublicId") UUID auctionPublicId, Pageable pageable);
+
+    interface MessageView {
+        UUID getPublicId();
+
+        UUID getAuctionPublicId();
+
+        UUID getSenderPublicId();
+
+        String getSenderName();
+
+        String getContent();
+
+        LocalDateTime getCreatedAt();
+    }
+}
@@ -0,0 +1,31 @@
+package com.tendering.repository;
+
+import com.tendering.model.ProxyBid;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ProxyBidRepository extends JpaRepository<ProxyBid, Long> {
+
+    @Query("SELECT p FROM ProxyBid p JOIN FETCH p.bidder WHERE p.auction.id = :auctionId AND p.status = 'ACTIVE'")
+    List<ProxyBid> findActiveByAuctionId(@Param("auctionId") Long auctionId);
+
+    @Query("SELECT p FROM ProxyBid p WHERE p.auction.id = :auctionId AND p.bidder.id = :bidderId")
+    Optional<ProxyBid> findByAuctionIdAndBidderId(@Param("auctionId") Long auctionId, @Param("bidderId") Long bidderId);
+
+    @Query("SELECT p FROM ProxyBid p JOIN FETCH p.auction WHERE p.auction.publicId = :auctionPublicId AND p.bidder.publicId = :bidderPublicId")
+    Optional<ProxyBid> findByAuctionPublicIdAndBidderPublicId(@Param("auctionPublicId") UUID auctionPublicId,
+                                                             @Param("bidderPublicId") UUID bidderPublicId);
+
+    @Modifying
+    @Query("UPDATE ProxyBid p SET p.status = :status WHERE p.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") String status);
+}
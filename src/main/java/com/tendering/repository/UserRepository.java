@@ -4,6 +4,8 @@ import com.tendering.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,4 +23,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Public ID ile arama (API için)
     Optional<User> findByPublicId(UUID publicId);
 
+    List<User> findByPublicIdIn(Collection<UUID> publicIds);
+
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.tendering.repository;
 import com.tendering.model.User;
 import com.tendering.model.Wallet;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -17,5 +19,8 @@ public interface WalletRepository extends JpaRepository<Wallet, Long> {
 
     Optional<Wallet> findByPublicId(UUID publicId);
 
+    @Query("SELECT w FROM Wallet w JOIN FETCH w.user WHERE w.user.publicId = :userPublicId")
+    Optional<Wallet> findWithUserByUserPublicId(@Param("userPublicId") UUID userPublicId);
+
     boolean existsByUser(User user);
 }
\ No newline at end of file
@@ -0,0 +1,191 @@
+package com.tendering.service;
+
+import com.tendering.event.AuctionsActivatedEvent;
+import com.tendering.repository.AuctionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bekleyen (PENDING) ihaleleri başlangıç zamanında aktifleştirir.
+ * Yaklaşan başlangıçlar pencere halinde belleğe alınır; sırası gelen tick'te tüm gecikmiş ihaleler
+ * entity bazında kayıt yerine tek bir UPDATE ile aktifleştirilir.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionActivationScheduler {
+
+    private static final int END_TIME_LOAD_CHUNK = 500;
+
+    private final AuctionRepository auctionRepository;
+    private final AuctionDeadlineTracker deadlineTracker;
+    private final BidSequencer bidSequencer;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${auction.activation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auction.activation.preload-window-minutes:10}")
+    private long preloadWindowMinutes;
+
+    @Value("${auction.activation.tick-ms:1000}")
+    private long tickMs;
+
+    // Başlangıç zamanına göre sıralı: ihale -> bitiş zamanı
+    private final NavigableMap<LocalDateTime, Map<UUID, LocalDateTime>> upcoming = new TreeMap<>();
+    private LocalDateTime preloadedUntil = LocalDateTime.MIN;
+    private volatile boolean ready;
+    private ScheduledExecutorService ticker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        ready = true;
+        // Kapalıyken başlangıcı geçmiş ihaleler hemen aktifleşir
+        activateDue(LocalDateTime.now());
+        refresh();
+        // Tick paylaşılan @Scheduled iş parçacığında uzun işlerin arkasında beklemesin
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auction-activation-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::safeTick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * Bir sonraki pencerenin başlangıçlarını yükler; tam UPDATE ayrıca her yenilemede çalışıp kaçanları yakalar
+     */
+    @Scheduled(fixedDelayString = "${auction.activation.refresh-interval-ms:60000}",
+            initialDelayString = "${auction.activation.refresh-interval-ms:60000}")
+    public void refresh() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plusMinutes(preloadWindowMinutes);
+        List<AuctionRepository.StartTimeView> starts = auctionRepository.findUpcomingStartTimes(now, until);
+
+        synchronized (upcoming) {
+            upcoming.clear();
+            for (AuctionRepository.StartTimeView view : starts) {
+                upcoming.computeIfAbsent(view.getStartTime(), key -> new HashMap<>())
+                        .put(view.getPublicId(), view.getEndTime());
+            }
+            preloadedUntil = until;
+        }
+        activateDue(now);
+        log.debug("Preloaded {} auction starts until {}", starts.size(), until);
+    }
+
+    /**
+     * Yeni oluşturulan ihale mevcut pencereye düşüyorsa bir sonraki yenilemeyi beklemeden planlanır
+     */
+    public void register(UUID auctionPublicId, LocalDateTime startTime, LocalDateTime endTime) {
+        // Commit edilmeden tetiklenirse UPDATE kaydı göremez ve başlangıç bir sonraki yenilemeye kalır
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addUpcoming(auctionPublicId, startTime, endTime);
+                }
+            });
+        } else {
+            addUpcoming(auctionPublicId, startTime, endTime);
+        }
+    }
+
+    private void addUpcoming(UUID auctionPublicId, LocalDateTime startTime, LocalDateTime endTime) {
+        synchronized (upcoming) {
+            if (!startTime.isAfter(preloadedUntil)) {
+                upcoming.computeIfAbsent(startTime, key -> new HashMap<>()).put(auctionPublicId, endTime);
+            }
+        }
+    }
+
+    public void tick() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        boolean due;
+        synchronized (upcoming) {
+            due = !upcoming.isEmpty() && !upcoming.firstKey().isAfter(now);
+        }
+        if (due) {
+            activateDue(now);
+        }
+    }
+
+    private void safeTick() {
+        // Yakalanmayan hata periyodik görevi kalıcı olarak durdurur
+        try {
+            tick();
+        } catch (RuntimeException e) {
+            log.error("Auction activation tick failed", e);
+        }
+    }
+
+    private void activateDue(LocalDateTime now) {
+        List<UUID> activated = transactionTemplate.execute(status -> auctionRepository.activateDueAuctions(now));
+
+        Map<UUID, LocalDateTime> started = new HashMap<>();
+        synchronized (upcoming) {
+            NavigableMap<LocalDateTime, Map<UUID, LocalDateTime>> dueStarts = upcoming.headMap(now, true);
+            dueStarts.values().forEach(started::putAll);
+            dueStarts.clear();
+        }
+        // UPDATE'i başka bir node kazanmış olabilir; PENDING iken yüklenen şeritler her durumda yenilenmeli
+        started.forEach(this::startTracking);
+        if (activated == null || activated.isEmpty()) {
+            return;
+        }
+
+        // Pencerede olmayanlar (açılıştaki telafi, yenilemeler arasında kaçanlar) için bitiş zamanlarını oku
+        List<UUID> unplanned = activated.stream().filter(id -> !started.containsKey(id)).toList();
+        for (int from = 0; from < unplanned.size(); from += END_TIME_LOAD_CHUNK) {
+            List<UUID> chunk = unplanned.subList(from, Math.min(from + END_TIME_LOAD_CHUNK, unplanned.size()));
+            auctionRepository.findEndTimesByPublicIds(chunk)
+                    .forEach(view -> startTracking(view.getPublicId(), view.getEndTime()));
+        }
+        eventPublisher.publishEvent(new AuctionsActivatedEvent(activated.size(), new ArrayList<>(activated)));
+        log.info("Activated {} pending auctions", activated.size());
+    }
+
+    private void startTracking(UUID auctionPublicId, LocalDateTime endTime) {
+        deadlineTracker.track(auctionPublicId, endTime);
+        bidSequencer.invalidate(auctionPublicId);
+    }
+}
@@ -0,0 +1,32 @@
+package com.tendering.service;
+
+import com.tendering.repository.AuctionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Auction üzerindeki teklif özetlerini (sayı, lider, son teklif zamanı) bids tablosuyla uzlaştırır.
+ * Özetler normalde teklif kabul/iptal akışında güncellenir; bu iş yalnızca sapmaları düzeltir.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionAggregateRepairService {
+
+    private final AuctionRepository auctionRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${auction.aggregates.repair-cron:0 */30 * * * *}")
+    @Transactional
+    public void repairBidAggregates() {
+        int repaired = auctionRepository.repairOpenAuctionBidAggregates();
+        if (repaired > 0) {
+            log.warn("Bid aggregates repaired for {} auctions", repaired);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.tendering.service;
+
+import com.tendering.dto.response.auction.AuctionStreamMessage;
+import com.tendering.dto.response.auction.ChatMessageResponse;
+import com.tendering.event.AuctionChatMessageEvent;
+import com.tendering.event.AuctionClosedEvent;
+import com.tendering.exceptionHandlers.ChatUnavailableException;
+import com.tendering.exceptionHandlers.RateLimitExceededException;
+import com.tendering.exceptionHandlers.ResourceNotFoundException;
+import com.tendering.model.Auction;
+import com.tendering.model.User;
+import com.tendering.repository.AuctionRepository;
+import com.tendering.repository.ChatMessageRepository;
+import com.tendering.repository.UserRepository;
+import com.tendering.util.EventRingBuffer;
+import com.tendering.util.LruTtlCache;
+import com.tendering.util.TokenBucket;
+import com.tendering.websocket.AuctionStreamHub;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Canlı yayın ihaleleri için sohbet.
+ * Her ihalenin son mesajları bellekteki bir halka tamponda tutulur; mesajlar canlı ihale akışından
+ * (WebSocket) itilir ve veritabanına toplu olarak yazılır. Dağıtım teklif işleminden ayrı, ihale başına
+ * sırayı koruyan kendi iş parçacıklarında yapılır; son dakika sohbet yoğunluğu teklif yolunu yavaşlatmaz.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionChatService {
+
+    private static final String INSERT_SQL = "INSERT INTO chat_messages (public_id, auction_id, sender_id, sender_name, " +
+            "content, created_at) VALUES (?, (SELECT id FROM auctions WHERE public_id = ?), " +
+            "(SELECT id FROM tendering_users WHERE public_id = ?), ?, ?, ?)";
+
+    private final AuctionRepository auctionRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuctionStreamHub streamHub;
+
+    @Value("${auction.chat.history-size:100}")
+    private int historySize;
+
+    @Value("${auction.chat.room-state-ttl-ms:30000}")
+    private long roomStateTtlMs;
+
+    @Value("${auction.chat.room-idle-ttl-ms:600000}")
+    private long roomIdleTtlMs;
+
+    @Value("${auction.chat.throttle.capacity:5}")
+    private int throttleCapacity;
+
+    @Value("${auction.chat.throttle.refill-per-second:0.5}")
+    private double throttleRefillPerSecond;
+
+    @Value("${auction.chat.dispatch-threads:2}")
+    private int dispatchThreads;
+
+    @Value("${auction.chat.persist.batch-size:500}")
+    private int persistBatchSize;
+
+    @Value("${auction.chat.persist.max-pending:20000}")
+    private int maxPending;
+
+    private final Map<UUID, Room> rooms = new ConcurrentHashMap<>();
+    private final Map<UUID, TokenBucket> senderBuckets = new ConcurrentHashMap<>();
+    private final LruTtlCache<UUID, String> senderNames = new LruTtlCache<>(10_000, Duration.ofMinutes(10));
+    private BlockingQueue<ChatMessageResponse> pending;
+    private ExecutorService[] dispatchers;
+
+    @PostConstruct
+    void init() {
+        pending = new LinkedBlockingQueue<>(maxPending);
+        // İhale başına tek iş parçacığı: aynı ihalenin mesajları geldiği sırayla dağıtılır
+        dispatchers = new ExecutorService[dispatchThreads];
+        for (int i = 0; i < dispatchThreads; i++) {
+            String name = "auction-chat-dispatch-" + (i + 1);
+            dispatchers[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (ExecutorService dispatcher : dispatchers) {
+            dispatcher.shutdown();
+        }
+        flush();
+    }
+
+    /**
+     * Mesajı kabul eder, ihale akışına dağıtılmak üzere yayınlar ve kalıcı kayıt için kuyruğa alır
+     */
+    public ChatMessageResponse send(UUID auctionPublicId, UUID senderPublicId, String content) {
+        long wait = senderBuckets
+                .computeIfAbsent(senderPublicId, id -> new TokenBucket(throttleCapacity, throttleRefillPerSecond))
+                .tryAcquire();
+        if (wait > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+            throw new RateLimitExceededException("Çok hızlı mesaj gönderiyorsunuz, lütfen biraz bekleyin", retryAfterSeconds);
+        }
+
+        Room room = room(auctionPublicId);
+        if (!room.open) {
+            throw new ChatUnavailableException("Bu ihalede sohbet kapalı");
+        }
+
+        ChatMessageResponse message = ChatMessageResponse.builder()
+                .publicId(UUID.randomUUID())
+                .auctionPublicId(auctionPublicId)
+                .senderPublicId(senderPublicId)
+                .senderName(senderName(senderPublicId))
+                .content(content.strip())
+                .createdAt(LocalDateTime.now())
+                .build();
+        if (!pending.offer(message)) {
+            // Yazma kuyruğu doluysa mesajı kaybetmek yerine göndereni bekletiriz
+            throw new RateLimitExceededException("Sohbet şu anda çok yoğun, lütfen tekrar deneyin", 1);
+        }
+        room.touch();
+        eventPublisher.publishEvent(new AuctionChatMessageEvent(auctionPublicId, message));
+        return message;
+    }
+
+    /**
+     * Son mesajlar, eskiden yeniye; bellekteki geçmişten okunur
+     */
+    public List<ChatMessageResponse> getRecentMessages(UUID auctionPublicId, int limit) {
+        Room room = room(auctionPublicId);
+        room.touch();
+        long last = room.history.lastSequence();
+        long after = Math.max(0, last - Math.min(limit, historySize));
+        List<ChatMessageResponse> messages = new ArrayList<>();
+        room.history.since(after).ifPresent(entries -> entries.forEach(entry -> messages.add(entry.event())));
+        return messages;
+    }
+
+    /**
+     * Yerel ve diğer node'lardan gelen mesajları ihalenin dağıtım iş parçacığına aktarır
+     */
+    @EventListener
+    public void onChatMessage(AuctionChatMessageEvent event) {
+        UUID auctionPublicId = event.getAuctionPublicId();
+        dispatcherFor(auctionPublicId).execute(() -> {
+            Room room = rooms.get(auctionPublicId);
+            if (room != null) {
+                room.history.append(event.getMessage());
+            }
+            streamHub.publishChat(auctionPublicId, AuctionStreamMessage.builder()
+                    .type("CHAT")
+                    .auctionPublicId(auctionPublicId)
+                    .chat(event.getMessage())
+                    .at(event.getMessage().getCreatedAt())
+                    .build());
+        });
+    }
+
+    @EventListener
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        Room room = rooms.get(event.getAuctionPublicId());
+        if (room != null) {
+            room.open = false;
+        }
+    }
+
+    /**
+     * Bekleyen mesajları parçalar halinde tek batch INSERT ile yazar
+     */
+    @Scheduled(fixedDelayString = "${auction.chat.persist.flush-interval-ms:1000}")
+    public void flush() {
+        List<ChatMessageResponse> batch = new ArrayList<>(persistBatchSize);
+        while (pending.drainTo(batch, persistBatchSize) > 0) {
+            persist(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Boşta kalan odaları ve dolu kovaları bellekten atar; geçmiş gerektiğinde veritabanından yeniden yüklenir
+     */
+    @Scheduled(fixedDelayString = "${auction.chat.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        rooms.forEach((auctionPublicId, room) -> {
+            if (now - room.lastActiveAt > roomIdleTtlMs && streamHub.subscriberCount(auctionPublicId) == 0) {
+                rooms.remove(auctionPublicId, room);
+            }
+        });
+        senderBuckets.entrySet().removeIf(entry -> entry.getValue().isFull());
+    }
+
+    private void persist(List<ChatMessageResponse> batch) {
+        List<Object[]> arguments = batch.stream().map(this::arguments).toList();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, arguments);
+            return;
+        } catch (DataAccessException e) {
+            log.warn("Chat batch of {} messages failed, retrying row by row: {}", batch.size(), e.getMessage());
+        }
+        // Silinmiş ihale veya kullanıcıya ait satırlar tüm parçayı kaybettirmesin
+        for (Object[] row : arguments) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, row);
+            } catch (DataAccessException e) {
+                log.warn("Chat message {} could not be stored: {}", row[0],
+                        NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            }
+        }
+    }
+
+    private Object[] arguments(ChatMessageResponse message) {
+        return new Object[]{
+                message.getPublicId(),
+                message.getAuctionPublicId(),
+                message.getSenderPublicId(),
+                message.getSenderName(),
+                message.getContent(),
+                message.getCreatedAt()
+        };
+    }
+
+    private Room room(UUID auctionPublicId) {
+        Room room = rooms.computeIfAbsent(auctionPublicId, this::loadRoom);
+        if (System.currentTimeMillis() - room.stateLoadedAt > roomStateTtlMs) {
+            // Satıcı sohbeti kapatmış veya ihale bitmiş olabilir
+            room.open = auctionRepository.findChatStateByPublicId(auctionPublicId).map(this::isChatOpen).orElse(false);
+            room.stateLoadedAt = System.currentTimeMillis();
+        }
+        return room;
+    }
+
+    private Room loadRoom(UUID auctionPublicId) {
+        AuctionRepository.ChatStateView state = auctionRepository.findChatStateByPublicId(auctionPublicId)
+                .orElseThrow(() -> new ResourceNotFoundException("İhale bulunamadı: " + auctionPublicId));
+        Room room = new Room(new EventRingBuffer<>(historySize), isChatOpen(state));
+        List<ChatMessageRepository.MessageView> recent =
+                chatMessageRepository.findRecentViews(auctionPublicId, PageRequest.of(0, historySize));
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            room.history.append(ChatMessageResponse.fromView(recent.get(i)));
+        }
+        return room;
+    }
+
+    private boolean isChatOpen(AuctionRepository.ChatStateView state) {
+        boolean livestream = state.getType() == Auction.AuctionType.LIVESTREAM || Boolean.TRUE.equals(state.getIsLive());
+        return livestream && "ACTIVE".equals(state.getStatus()) && !Boolean.FALSE.equals(state.getChatEnabled());
+    }
+
+    private String senderName(UUID senderPublicId) {
+        String name = senderNames.get(senderPublicId);
+        if (name == null) {
+            User sender = userRepository.findByPublicId(senderPublicId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Kullanıcı bulunamadı: " + senderPublicId));
+            name = sender.getFullName();
+            senderNames.put(senderPublicId, name);
+        }
+        return name;
+    }
+
+    private ExecutorService dispatcherFor(UUID auctionPublicId) {
+        return dispatchers[Math.floorMod(auctionPublicId.hashCode(), dispatchers.length)];
+    }
+
+    private static final class Room {
+        private final EventRingBuffer<ChatMessageResponse> history;
+        private volatile boolean open;
+        private volatile long stateLoadedAt = System.currentTimeMillis();
+        private volatile long lastActiveAt = System.currentTimeMillis();
+
+        private Room(EventRingBuffer<ChatMessageResponse> history, boolean open) {
+            this.history = history;
+            this.open = open;
+        }
+
+        private void touch() {
+            lastActiveAt = System.currentTimeMillis();
+        }
+    }
+}
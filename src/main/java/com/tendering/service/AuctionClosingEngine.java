@@ -0,0 +1,204 @@
+package com.tendering.service;
+
+import com.tendering.event.AuctionEndReachedEvent;
+import com.tendering.exceptionHandlers.InsufficientFundsException;
+import com.tendering.exceptionHandlers.ResourceNotFoundException;
+import com.tendering.repository.AuctionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bitiş zamanı gelen ihaleleri otomatik olarak kapatır.
+ * Açılışta aktif ihalelerin bitiş zamanları zamanlayıcı çarkına yüklenir ve süresi geçmiş olanlar
+ * hemen kuyruğa alınır; aynı anda biten ihaleler paralel batch'ler halinde, hata durumunda tekrar denenerek kapatılır.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionClosingEngine {
+
+    private final AuctionRepository auctionRepository;
+    private final AuctionService auctionService;
+    private final AuctionDeadlineTracker deadlineTracker;
+
+    @Value("${auction.closing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auction.closing.worker-threads:4}")
+    private int workerThreads;
+
+    @Value("${auction.closing.batch-size:50}")
+    private int batchSize;
+
+    @Value("${auction.closing.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${auction.closing.retry-backoff-ms:500}")
+    private long retryBackoffMs;
+
+    @Value("${auction.closing.commission-rate:0.05}")
+    private BigDecimal commissionRate;
+
+    private final BlockingQueue<UUID> due = new LinkedBlockingQueue<>();
+    private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean running;
+    private ExecutorService workers;
+    private Thread dispatcher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        AtomicInteger threadCounter = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "auction-closer-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        dispatcher = new Thread(this::dispatch, "auction-closing-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+
+        // Yeniden başlatmada kaçırılan kapanışlar önce kuyruğa alınır
+        reconcile();
+        List<AuctionRepository.EndTimeView> endTimes = auctionRepository.findActiveEndTimes();
+        endTimes.forEach(view -> deadlineTracker.track(view.getPublicId(), view.getEndTime()));
+        log.info("Auction closing engine started, tracking {} active auctions", endTimes.size());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+        if (workers != null) {
+            workers.shutdown();
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        }
+    }
+
+    @EventListener
+    public void onAuctionEndReached(AuctionEndReachedEvent event) {
+        if (running) {
+            enqueue(event.getAuctionPublicId());
+        }
+    }
+
+    /**
+     * Süresi geçmiş ama hâlâ aktif görünen ihaleleri kuyruğa alır; çarkın kaçırdığı kapanışlar için güvenlik ağı
+     */
+    @Scheduled(fixedDelayString = "${auction.closing.reconcile-interval-ms:60000}",
+            initialDelayString = "${auction.closing.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        if (!running) {
+            return;
+        }
+        List<UUID> overdue = auctionRepository.findOverdueActivePublicIds(LocalDateTime.now());
+        if (!overdue.isEmpty()) {
+            log.info("Reconciling {} overdue active auctions", overdue.size());
+            overdue.forEach(this::enqueue);
+        }
+    }
+
+    private void enqueue(UUID auctionPublicId) {
+        if (queued.add(auctionPublicId)) {
+            due.add(auctionPublicId);
+        }
+    }
+
+    private void dispatch() {
+        while (running) {
+            try {
+                UUID first = due.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<UUID> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                due.drainTo(batch, batchSize - 1);
+                batch.forEach(queued::remove);
+
+                CompletableFuture<?>[] closings = batch.stream()
+                        .map(auctionPublicId -> CompletableFuture.runAsync(() -> close(auctionPublicId), workers))
+                        .toArray(CompletableFuture[]::new);
+                CompletableFuture.allOf(closings).join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in auction closing dispatcher", e);
+            }
+        }
+    }
+
+    private void close(UUID auctionPublicId) {
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            try {
+                AuctionService.AuctionCloseResult result = closeOnce(auctionPublicId);
+                if (result.outcome() == AuctionService.CloseOutcome.NOT_DUE) {
+                    // Başka bir node'da uzatılmış; yeni bitiş zamanına göre tekrar planla
+                    deadlineTracker.track(auctionPublicId, result.endTime());
+                }
+                log.debug("Auction {} closing outcome: {}", auctionPublicId, result.outcome());
+                return;
+            } catch (ResourceNotFoundException e) {
+                log.warn("Auction {} disappeared before it could be closed", auctionPublicId);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Auction {} could not be closed (attempt {})", auctionPublicId, attempt + 1, e);
+                if (!sleep(retryBackoffMs << attempt)) {
+                    return;
+                }
+            }
+        }
+        // Bir sonraki mutabakat turunda yeniden denenir
+        log.error("Auction {} could not be closed after {} attempts", auctionPublicId, maxRetries + 1);
+    }
+
+    private AuctionService.AuctionCloseResult closeOnce(UUID auctionPublicId) {
+        try {
+            return auctionService.closeEndedAuction(auctionPublicId, true, commissionRate);
+        } catch (InsufficientFundsException | ResourceNotFoundException | IllegalStateException e) {
+            // Escrow iş kuralı nedeniyle oluşturulamadı; tekrar denemek sonucu değiştirmez
+            log.warn("Escrow could not be created for auction {}, closing without escrow: {}", auctionPublicId, e.getMessage());
+            return auctionService.closeEndedAuction(auctionPublicId, false, commissionRate);
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
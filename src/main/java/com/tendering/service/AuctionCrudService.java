@@ -1,7 +1,9 @@
 package com.tendering.service;
 
+import com.tendering.dto.common.CursorSlice;
 import com.tendering.dto.request.auction.AuctionCreateRequest;
 import com.tendering.dto.request.auction.AuctionUpdateRequest;
+import com.tendering.dto.response.auction.AuctionBatchResponse;
 import com.tendering.dto.response.auction.AuctionResponse;
 import com.tendering.model.Auction;
 import org.springframework.data.domain.Page;
@@ -19,6 +21,8 @@ public interface AuctionCrudService {
 
     AuctionResponse getAuctionById(UUID publicId);
 
+    AuctionBatchResponse getAuctionsByIds(List<UUID> publicIds);
+
     Page<AuctionResponse> getAllAuctions(Pageable pageable);
 
     Page<AuctionResponse> getAuctionsByStatus(String status, Pageable pageable);
@@ -31,6 +35,18 @@ public interface AuctionCrudService {
 
     Page<AuctionResponse> getActiveAuctionsByType(String type, Pageable pageable);
 
+    CursorSlice<AuctionResponse> getAllAuctionsCursor(String cursor, int size, boolean includeTotal);
+
+    CursorSlice<AuctionResponse> getAuctionsByStatusCursor(String status, String cursor, int size, boolean includeTotal);
+
+    CursorSlice<AuctionResponse> getAuctionsByTypeCursor(String type, String cursor, int size, boolean includeTotal);
+
+    CursorSlice<AuctionResponse> getAuctionsBySellerCursor(UUID sellerPublicId, String cursor, int size, boolean includeTotal);
+
+    CursorSlice<AuctionResponse> getActiveAuctionsCursor(String cursor, int size, boolean includeTotal);
+
+    CursorSlice<AuctionResponse> getActiveAuctionsByTypeCursor(String type, String cursor, int size, boolean includeTotal);
+
     List<AuctionResponse> getUpcomingAuctions(LocalDateTime start, LocalDateTime end);
 
     List<AuctionResponse> getEndingSoonAuctions(int hoursAhead);
@@ -0,0 +1,122 @@
+package com.tendering.service;
+
+import com.tendering.event.AuctionClosedEvent;
+import com.tendering.event.AuctionEndReachedEvent;
+import com.tendering.event.AuctionEndTimeExtendedEvent;
+import com.tendering.util.HierarchicalTimingWheel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aktif ihalelerin bitiş zamanlarını bellekteki hiyerarşik zamanlayıcı çarkında tutar.
+ * Uzatmalar çarkta yeniden planlanır; bitiş anı geldiğinde AuctionEndReachedEvent yayınlanır.
+ * Aynı güncellemeler "yakında bitecek" indeksini de besler.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionDeadlineTracker {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuctionEndingSoonIndex endingSoonIndex;
+
+    @Value("${auction.deadline.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${auction.deadline.wheel-size:64}")
+    private int wheelSize;
+
+    @Value("${auction.deadline.levels:4}")
+    private int levels;
+
+    private HierarchicalTimingWheel<UUID> wheel;
+    private ScheduledExecutorService ticker;
+
+    /**
+     * Çark paylaşılan @Scheduled iş parçacığında değil kendi iş parçacığında ilerler; uzun süren
+     * uzlaştırma veya temizlik işleri bitiş tetiklemesini geciktirmez
+     */
+    @PostConstruct
+    void init() {
+        wheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, levels, System.currentTimeMillis());
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auction-deadline-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::safeAdvance, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    public void track(UUID auctionPublicId, LocalDateTime endTime) {
+        wheel.schedule(auctionPublicId, toEpochMillis(endTime));
+        endingSoonIndex.put(auctionPublicId, endTime);
+    }
+
+    public void untrack(UUID auctionPublicId) {
+        wheel.cancel(auctionPublicId);
+        endingSoonIndex.remove(auctionPublicId);
+    }
+
+    /**
+     * Takip ediliyorsa ihalenin uzatmalar dahil güncel bitiş zamanı
+     */
+    public Optional<LocalDateTime> endTimeOf(UUID auctionPublicId) {
+        Long deadline = wheel.deadlineOf(auctionPublicId);
+        return Optional.ofNullable(deadline)
+                .map(millis -> LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault()));
+    }
+
+    @EventListener(condition = "#event.remote")
+    public void onRemoteEndTimeExtended(AuctionEndTimeExtendedEvent event) {
+        track(event.getAuctionPublicId(), event.getEndTime());
+    }
+
+    @EventListener(condition = "#event.remote")
+    public void onRemoteAuctionClosed(AuctionClosedEvent event) {
+        untrack(event.getAuctionPublicId());
+    }
+
+    public void advance() {
+        long now = System.currentTimeMillis();
+        List<UUID> expired = wheel.advance(now);
+        for (UUID auctionPublicId : expired) {
+            log.debug("Auction end reached: {}", auctionPublicId);
+            eventPublisher.publishEvent(new AuctionEndReachedEvent(auctionPublicId,
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault())));
+        }
+    }
+
+    private void safeAdvance() {
+        // Yakalanmayan hata periyodik görevi kalıcı olarak durdurur
+        try {
+            advance();
+        } catch (RuntimeException e) {
+            log.error("Deadline wheel tick failed", e);
+        }
+    }
+
+    private long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,184 @@
+package com.tendering.service;
+
+import com.tendering.event.AuctionClosedEvent;
+import com.tendering.repository.AuctionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aktif ihaleleri bitiş dakikasına göre kovalarda tutan bellek içi indeks.
+ * Bitiş zamanı değişiklikleri AuctionDeadlineTracker üzerinden gelir; kaçan güncellemeler
+ * periyodik olarak veritabanıyla uzlaştırılır. "Yakında bitecek" sorguları kova yürüyüşüne dönüşür.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionEndingSoonIndex {
+
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    private final AuctionRepository auctionRepository;
+
+    @Value("${auction.ending-soon-index.enabled:true}")
+    private boolean enabled;
+
+    // Bitiş dakikası (epoch) -> o dakikada biten ihaleler
+    private final ConcurrentSkipListMap<Long, Set<UUID>> buckets = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    // Uzlaştırma sırasında, anlık görüntüden sonra kaldırılanların yeniden eklenmemesi için
+    private final Map<UUID, Long> removedAt = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        reconcile();
+        ready = true;
+        log.info("Ending-soon index built with {} active auctions", entries.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void put(UUID auctionPublicId, LocalDateTime endTime) {
+        if (!enabled) {
+            return;
+        }
+        long seq = sequence.incrementAndGet();
+        removedAt.remove(auctionPublicId);
+        synchronized (this) {
+            Entry previous = entries.put(auctionPublicId, new Entry(endTime, seq));
+            if (previous != null) {
+                unlink(auctionPublicId, previous.endTime());
+            }
+            buckets.computeIfAbsent(minuteOf(endTime), key -> ConcurrentHashMap.newKeySet()).add(auctionPublicId);
+        }
+    }
+
+    public void remove(UUID auctionPublicId) {
+        if (!enabled) {
+            return;
+        }
+        removedAt.put(auctionPublicId, sequence.incrementAndGet());
+        synchronized (this) {
+            Entry previous = entries.remove(auctionPublicId);
+            if (previous != null) {
+                unlink(auctionPublicId, previous.endTime());
+            }
+        }
+    }
+
+    /**
+     * [from, to] aralığında biten ihaleler, bitiş zamanına göre sıralı
+     */
+    public List<UUID> endingBetween(LocalDateTime from, LocalDateTime to) {
+        List<Map.Entry<UUID, LocalDateTime>> matches = new ArrayList<>();
+        for (Set<UUID> bucket : buckets.subMap(minuteOf(from), true, minuteOf(to), true).values()) {
+            for (UUID auctionPublicId : bucket) {
+                Entry entry = entries.get(auctionPublicId);
+                // Kova sınırları dakikalık; uçlardaki kovalarda tam zamana göre süz
+                if (entry != null && !entry.endTime().isBefore(from) && !entry.endTime().isAfter(to)) {
+                    matches.add(Map.entry(auctionPublicId, entry.endTime()));
+                }
+            }
+        }
+        matches.sort(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+        return matches.stream().map(Map.Entry::getKey).toList();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Kaçan olayları telafi eder: veritabanındaki aktif bitiş zamanlarını indekse uygular.
+     * Anlık görüntüden sonra yerel olarak güncellenen veya kaldırılan ihalelere dokunulmaz.
+     */
+    @Scheduled(fixedDelayString = "${auction.ending-soon-index.reconcile-interval-ms:300000}",
+            initialDelayString = "${auction.ending-soon-index.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        long snapshot = sequence.get();
+        List<AuctionRepository.EndTimeView> active = auctionRepository.findActiveEndTimes();
+
+        Set<UUID> activeIds = new HashSet<>();
+        int added = 0;
+        int corrected = 0;
+        for (AuctionRepository.EndTimeView view : active) {
+            UUID auctionPublicId = view.getPublicId();
+            activeIds.add(auctionPublicId);
+            Long removed = removedAt.get(auctionPublicId);
+            if (removed != null && removed > snapshot) {
+                continue;
+            }
+            Entry entry = entries.get(auctionPublicId);
+            if (entry == null) {
+                put(auctionPublicId, view.getEndTime());
+                added++;
+            } else if (entry.sequence() <= snapshot && !entry.endTime().equals(view.getEndTime())) {
+                put(auctionPublicId, view.getEndTime());
+                corrected++;
+            }
+        }
+
+        int dropped = 0;
+        for (Map.Entry<UUID, Entry> entry : entries.entrySet()) {
+            if (!activeIds.contains(entry.getKey()) && entry.getValue().sequence() <= snapshot) {
+                remove(entry.getKey());
+                dropped++;
+            }
+        }
+        removedAt.values().removeIf(seq -> seq <= snapshot);
+
+        if (added + corrected + dropped > 0) {
+            log.info("Ending-soon index reconciled: {} added, {} corrected, {} dropped", added, corrected, dropped);
+        }
+    }
+
+    @EventListener
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        remove(event.getAuctionPublicId());
+    }
+
+    private void unlink(UUID auctionPublicId, LocalDateTime endTime) {
+        long minute = minuteOf(endTime);
+        Set<UUID> bucket = buckets.get(minute);
+        if (bucket != null) {
+            bucket.remove(auctionPublicId);
+            if (bucket.isEmpty()) {
+                buckets.remove(minute, bucket);
+            }
+        }
+    }
+
+    private long minuteOf(LocalDateTime time) {
+        return Math.floorDiv(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), MILLIS_PER_MINUTE);
+    }
+
+    private record Entry(LocalDateTime endTime, long sequence) {
+    }
+}
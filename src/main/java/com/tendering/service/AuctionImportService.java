@@ -0,0 +1,273 @@
+package com.tendering.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tendering.dto.request.auction.AuctionCreateRequest;
+import com.tendering.dto.response.auction.AuctionImportRowResult;
+import com.tendering.dto.response.auction.AuctionImportSummary;
+import com.tendering.exceptionHandlers.ResourceNotFoundException;
+import com.tendering.model.Auction;
+import com.tendering.model.User;
+import com.tendering.repository.UserRepository;
+import com.tendering.util.AuctionValidationUtil;
+import com.tendering.util.CsvLineParser;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Büyük satıcılar için NDJSON/CSV akışından toplu ihale oluşturur.
+ * Kayıtlar satır satır okunur ve doğrulanır; geçerli olanlar parçalar halinde JDBC batch ile eklenir.
+ * Bellekte en fazla bir parça tutulur, her satırın sonucu hemen çağırana iletilir.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO auctions (public_id, title, description, seller_id, type, " +
+            "start_price, current_price, reserve_price, min_bid_increment, version, start_time, end_time, status, " +
+            "thumbnail_url, is_featured, view_count, is_live, stream_url, chat_enabled, bid_count, " +
+            "distinct_bidder_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, 'PENDING', ?, ?, 0, ?, ?, ?, 0, 0, ?, ?)";
+
+    private static final BigDecimal DEFAULT_MIN_BID_INCREMENT = new BigDecimal("1.00");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final AuctionValidationUtil auctionValidationUtil;
+    private final AuctionActivationScheduler activationScheduler;
+
+    @Value("${auction.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${auction.import.max-rows:10000}")
+    private int maxRows;
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    /**
+     * Kaynaktaki kayıtları içe aktarır; her satırın sonucu sink'e yazılır
+     */
+    public AuctionImportSummary importAuctions(UUID sellerPublicId, Reader source, Format format,
+                                               Consumer<AuctionImportRowResult> sink) throws IOException {
+        User seller = userRepository.findByPublicId(sellerPublicId)
+                .orElseThrow(() -> new ResourceNotFoundException("Satıcı bulunamadı: " + sellerPublicId));
+
+        BufferedReader reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source);
+        List<String> header = null;
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        int lineNumber = 0;
+        int total = 0;
+        int created = 0;
+        boolean truncated = false;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && header == null) {
+                header = normalizeHeader(CsvLineParser.parse(line));
+                continue;
+            }
+            if (total >= maxRows) {
+                truncated = true;
+                sink.accept(AuctionImportRowResult.failed(lineNumber,
+                        List.of("Tek seferde en fazla " + maxRows + " ihale içe aktarılabilir")));
+                break;
+            }
+            total++;
+
+            AuctionCreateRequest request;
+            try {
+                request = format == Format.CSV ? fromCsv(header, line) : objectMapper.readValue(line, AuctionCreateRequest.class);
+            } catch (JsonProcessingException | IllegalArgumentException | DateTimeParseException e) {
+                sink.accept(AuctionImportRowResult.failed(lineNumber, List.of("Satır okunamadı: " + e.getMessage())));
+                continue;
+            }
+            if (request == null) {
+                // NDJSON'da "null" satırı geçerli JSON'dur ama ihale değildir
+                sink.accept(AuctionImportRowResult.failed(lineNumber, List.of("Satır bir ihale nesnesi değil")));
+                continue;
+            }
+
+            List<String> errors = validate(request);
+            if (!errors.isEmpty()) {
+                sink.accept(AuctionImportRowResult.failed(lineNumber, errors));
+                continue;
+            }
+
+            chunk.add(new Row(lineNumber, UUID.randomUUID(), request));
+            if (chunk.size() >= chunkSize) {
+                created += insert(seller, chunk, sink);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            created += insert(seller, chunk, sink);
+        }
+
+        log.info("Auction import by seller {} finished: {} rows, {} created", sellerPublicId, total, created);
+        return AuctionImportSummary.builder()
+                .total(total)
+                .created(created)
+                .failed(total - created)
+                .truncated(truncated)
+                .build();
+    }
+
+    private List<String> validate(AuctionCreateRequest request) {
+        List<String> errors = validator.validate(request).stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (request.getType() != null && parseType(request.getType()) == null) {
+            errors.add("Geçersiz ihale tipi: " + request.getType());
+        }
+        if (request.getStartTime() != null && request.getEndTime() != null
+                && !auctionValidationUtil.isValidAuctionTiming(request.getStartTime(), request.getEndTime())) {
+            errors.add("Bitiş zamanı başlangıç zamanından sonra olmalıdır ve gelecekte olmalıdır");
+        }
+        return errors;
+    }
+
+    /**
+     * Parçayı tek transaction'da batch olarak ekler; başarısız olursa hatalı satırları bulmak için tek tek dener
+     */
+    private int insert(User seller, List<Row> rows, Consumer<AuctionImportRowResult> sink) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = rows.stream().map(row -> arguments(seller, row, now)).collect(Collectors.toList());
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch));
+            rows.forEach(row -> accepted(row, sink));
+            return rows.size();
+        } catch (DataAccessException e) {
+            log.warn("Auction import batch of {} rows failed, retrying row by row: {}", rows.size(), e.getMessage());
+        }
+
+        int created = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            try {
+                jdbcTemplate.update(INSERT_SQL, batch.get(i));
+                accepted(row, sink);
+                created++;
+            } catch (DataAccessException e) {
+                sink.accept(AuctionImportRowResult.failed(row.line(),
+                        List.of("Kayıt eklenemedi: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage())));
+            }
+        }
+        return created;
+    }
+
+    private void accepted(Row row, Consumer<AuctionImportRowResult> sink) {
+        activationScheduler.register(row.publicId(), row.request().getStartTime(), row.request().getEndTime());
+        sink.accept(AuctionImportRowResult.created(row.line(), row.publicId()));
+    }
+
+    private Object[] arguments(User seller, Row row, LocalDateTime now) {
+        AuctionCreateRequest request = row.request();
+        return new Object[]{
+                row.publicId(),
+                request.getTitle(),
+                request.getDescription(),
+                seller.getId(),
+                parseType(request.getType()).name(),
+                request.getStartPrice(),
+                request.getStartPrice(),
+                request.getReservePrice(),
+                request.getMinBidIncrement() != null ? request.getMinBidIncrement() : DEFAULT_MIN_BID_INCREMENT,
+                request.getStartTime(),
+                request.getEndTime(),
+                request.getThumbnailUrl(),
+                request.getIsFeatured() != null ? request.getIsFeatured() : Boolean.FALSE,
+                request.getIsLive() != null ? request.getIsLive() : Boolean.FALSE,
+                request.getStreamUrl(),
+                request.getChatEnabled() != null ? request.getChatEnabled() : Boolean.TRUE,
+                now,
+                now
+        };
+    }
+
+    /**
+     * Boş başlık hücreleri (ör. sondaki virgül) konum korunarak bilinmeyen sütun olarak işaretlenir
+     */
+    private List<String> normalizeHeader(List<String> header) {
+        List<String> normalized = new ArrayList<>(header.size());
+        for (String name : header) {
+            normalized.add(name == null || name.isBlank() ? "" : name.trim());
+        }
+        return normalized;
+    }
+
+    private AuctionCreateRequest fromCsv(List<String> header, String line) {
+        List<String> values = CsvLineParser.parse(line);
+        if (values.size() > header.size()) {
+            throw new IllegalArgumentException("Sütun sayısı başlıktan fazla");
+        }
+        AuctionCreateRequest request = new AuctionCreateRequest();
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            switch (header.get(i)) {
+                case "title" -> request.setTitle(value);
+                case "description" -> request.setDescription(value);
+                case "type" -> request.setType(value);
+                case "startPrice" -> request.setStartPrice(new BigDecimal(value));
+                case "reservePrice" -> request.setReservePrice(new BigDecimal(value));
+                case "minBidIncrement" -> request.setMinBidIncrement(new BigDecimal(value));
+                case "startTime" -> request.setStartTime(LocalDateTime.parse(value));
+                case "endTime" -> request.setEndTime(LocalDateTime.parse(value));
+                case "thumbnailUrl" -> request.setThumbnailUrl(value);
+                case "isFeatured" -> request.setIsFeatured(Boolean.parseBoolean(value));
+                case "isLive" -> request.setIsLive(Boolean.parseBoolean(value));
+                case "streamUrl" -> request.setStreamUrl(value);
+                case "chatEnabled" -> request.setChatEnabled(Boolean.parseBoolean(value));
+                default -> {
+                    // Bilinmeyen sütunlar yok sayılır
+                }
+            }
+        }
+        return request;
+    }
+
+    private Auction.AuctionType parseType(String type) {
+        try {
+            return Auction.AuctionType.valueOf(type.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record Row(int line, UUID publicId, AuctionCreateRequest request) {
+    }
+}
@@ -0,0 +1,210 @@
+package com.tendering.service;
+
+import com.tendering.dto.response.auction.AuctionResponse;
+import com.tendering.event.AuctionClosedEvent;
+import com.tendering.event.AuctionEndTimeExtendedEvent;
+import com.tendering.event.AuctionsActivatedEvent;
+import com.tendering.event.BidAcceptedEvent;
+import com.tendering.event.BidCanceledEvent;
+import com.tendering.util.LruTtlCache;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Ana sayfa listeleri (öne çıkan, canlı, yakında bitecek) için kısa ömürlü yerel önbellek.
+ * Aynı anahtar için eşzamanlı ıskalar tek sorguda birleştirilir; listede bulunan bir ihale
+ * değiştiğinde yalnızca o ihaleyi içeren listeler geçersiz kılınır.
+ */
+@Service
+@Slf4j
+public class AuctionListCache {
+
+    public static final String FEATURED = "featured";
+    public static final String LIVE = "live";
+    private static final String ENDING_SOON_PREFIX = "ending-soon:";
+
+    @Value("${auction.list-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auction.list-cache.ttl-ms:5000}")
+    private long ttlMs;
+
+    @Value("${auction.list-cache.max-ending-soon-hours:168}")
+    private int maxEndingSoonHours;
+
+    private LruTtlCache<String, List<AuctionResponse>> cache;
+    private final Map<String, CompletableFuture<List<AuctionResponse>>> inFlight = new ConcurrentHashMap<>();
+    // Liste anahtarı -> listedeki ihaleler; hedefli geçersiz kılma için
+    private final Map<String, Set<UUID>> members = new ConcurrentHashMap<>();
+    // Anahtar başına geçersiz kılma sayacı; bir listenin geçersiz kılınması diğer listelerin yüklemesini boşa çıkarmaz
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private long globalGeneration;
+
+    @PostConstruct
+    void init() {
+        cache = new LruTtlCache<>(maxEndingSoonHours + 2, Duration.ofMillis(ttlMs));
+    }
+
+    public static String endingSoonKey(int hoursAhead) {
+        return ENDING_SOON_PREFIX + hoursAhead;
+    }
+
+    public boolean isCacheableEndingSoon(int hoursAhead) {
+        return hoursAhead > 0 && hoursAhead <= maxEndingSoonHours;
+    }
+
+    /**
+     * Listeyi önbellekten döner; yoksa tek bir çağıran yükler, diğerleri aynı sonucu bekler
+     */
+    public List<AuctionResponse> get(String key, Supplier<List<AuctionResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        List<AuctionResponse> cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<List<AuctionResponse>> mine = new CompletableFuture<>();
+        CompletableFuture<List<AuctionResponse>> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(running);
+        }
+
+        Stamp startedAt;
+        synchronized (lock) {
+            startedAt = stamp(key);
+        }
+        try {
+            List<AuctionResponse> loaded = List.copyOf(loader.get());
+            synchronized (lock) {
+                // Yükleme sırasında bu liste geçersiz kılındıysa eski veriyi önbelleğe koyma
+                if (startedAt.equals(stamp(key))) {
+                    cache.put(key, loaded);
+                    members.put(key, loaded.stream().map(AuctionResponse::getPublicId).collect(Collectors.toSet()));
+                }
+            }
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public void invalidateAfterCommit(String key) {
+        afterCommit(() -> invalidate(key));
+    }
+
+    public void invalidateAllAfterCommit() {
+        afterCommit(this::invalidateAll);
+    }
+
+    public void invalidate(String key) {
+        synchronized (lock) {
+            generations.merge(key, 1L, Long::sum);
+            cache.invalidate(key);
+            members.remove(key);
+            inFlight.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (lock) {
+            globalGeneration++;
+            cache.invalidateAll();
+            members.clear();
+            inFlight.clear();
+        }
+    }
+
+    /**
+     * Yalnızca verilen ihaleyi içeren listeleri geçersiz kılar. Yüklenmekte olan listelerin içeriği henüz
+     * bilinmediği için onlar da geçersiz sayılır.
+     */
+    public void invalidateContaining(UUID auctionPublicId) {
+        Set<String> keys = members.entrySet().stream()
+                .filter(entry -> entry.getValue().contains(auctionPublicId))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        keys.addAll(inFlight.keySet());
+        keys.forEach(this::invalidate);
+    }
+
+    private Stamp stamp(String key) {
+        return new Stamp(globalGeneration, generations.getOrDefault(key, 0L));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidAccepted(BidAcceptedEvent event) {
+        invalidateContaining(event.getAuctionPublicId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidCanceled(BidCanceledEvent event) {
+        invalidateContaining(event.getAuctionPublicId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEndTimeExtended(AuctionEndTimeExtendedEvent event) {
+        invalidateContaining(event.getAuctionPublicId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        invalidateContaining(event.getAuctionPublicId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionsActivated(AuctionsActivatedEvent event) {
+        // Yeni aktifleşen ihaleler henüz hiçbir listede yok; hepsi yeniden yüklenmeli
+        invalidateAll();
+    }
+
+    private void afterCommit(Runnable action) {
+        // Commit öncesi silinirse eşzamanlı bir okuma eski veriyi yeniden önbelleğe alabilir
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Stamp(long global, long key) {
+    }
+
+    private List<AuctionResponse> await(CompletableFuture<List<AuctionResponse>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
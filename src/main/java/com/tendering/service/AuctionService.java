@@ -1,19 +1,24 @@
 package com.tendering.service;
 
 import com.tendering.dto.response.escrow.EscrowResponse;
+import com.tendering.event.AuctionClosedEvent;
+import com.tendering.exceptionHandlers.ResourceNotFoundException;
 import com.tendering.model.Auction;
 import com.tendering.model.Bid;
 import com.tendering.repository.AuctionRepository;
 import com.tendering.repository.BidRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -25,6 +30,10 @@ public class AuctionService {
     private final AuctionRepository auctionRepository;
     private final BidRepository bidRepository;
     private final EscrowService escrowService;
+    private final BidSequencer bidSequencer;
+    private final BidLeaderboardService bidLeaderboardService;
+    private final AuctionDeadlineTracker deadlineTracker;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * İhale bitiminde kazanan teklif için otomatik escrow oluşturur
@@ -69,12 +78,54 @@ public class AuctionService {
                 commissionRate != null ? commissionRate : new BigDecimal("0.05")
         );
 
+        finishClose(auctionPublicId, winningBid, winningBid.getAmount());
         log.info("İhale tamamlandı ve escrow oluşturuldu - Açık artırma: {}, Escrow: {}, Kazanan teklif: {}", 
                 auctionPublicId, escrow.getId(), winningBid.getAmount());
 
         return escrow;
     }
 
+    /**
+     * Bitiş zamanı geçmiş ihaleyi kapatır; kazanan teklif reserve fiyatı karşılıyorsa istenirse escrow oluşturur.
+     * Kapanış koşullu güncellemeyle yapılır, böylece aynı ihaleyi yalnızca bir çağrı kapatabilir.
+     */
+    @Transactional
+    public AuctionCloseResult closeEndedAuction(UUID auctionPublicId, boolean withEscrow, BigDecimal commissionRate) {
+        Auction auction = auctionRepository.findByPublicId(auctionPublicId)
+                .orElseThrow(() -> new ResourceNotFoundException("İhale bulunamadı: " + auctionPublicId));
+
+        if (!"ACTIVE".equals(auction.getStatus())) {
+            return new AuctionCloseResult(CloseOutcome.ALREADY_CLOSED, auction.getEndTime());
+        }
+
+        if (auctionRepository.closeIfEnded(auction.getId(), LocalDateTime.now()) == 0) {
+            // Başka bir node kapatmış ya da son saniye teklifiyle uzatılmış
+            return auctionRepository.findByPublicId(auctionPublicId)
+                    .filter(current -> "ACTIVE".equals(current.getStatus()))
+                    .map(current -> new AuctionCloseResult(CloseOutcome.NOT_DUE, current.getEndTime()))
+                    .orElseGet(() -> new AuctionCloseResult(CloseOutcome.ALREADY_CLOSED, auction.getEndTime()));
+        }
+        // Satır kilitlendikten sonra okunur; kapanıştan önce commit edilen tüm teklifler görünür
+        List<Bid> highestBids = bidRepository.findActiveHighestBidsByAuction(auction, PageRequest.of(0, 1));
+        Bid winningBid = highestBids.isEmpty() ? null : highestBids.get(0);
+        boolean sold = winningBid != null && (auction.getReservePrice() == null
+                || winningBid.getAmount().compareTo(auction.getReservePrice()) >= 0);
+
+        if (!sold) {
+            finishClose(auctionPublicId, null, auction.getCurrentPrice());
+            log.info("İhale satış olmadan kapandı: {}", auctionPublicId);
+            return new AuctionCloseResult(CloseOutcome.NO_SALE, auction.getEndTime());
+        }
+
+        if (withEscrow) {
+            escrowService.createEscrowForAuction(auctionPublicId, winningBid.getPublicId(), commissionRate);
+        }
+        finishClose(auctionPublicId, winningBid, winningBid.getAmount());
+        log.info("İhale otomatik kapandı - Açık artırma: {}, Kazanan teklif: {}, Escrow: {}",
+                auctionPublicId, winningBid.getAmount(), withEscrow);
+        return new AuctionCloseResult(CloseOutcome.SOLD, auction.getEndTime());
+    }
+
     /**
      * İhaleyi manuel olarak tamamla (escrow olmadan)
      */
@@ -93,13 +144,14 @@ public class AuctionService {
         Pageable topOne = PageRequest.of(0, 1);
         List<Bid> highestBids = bidRepository.findActiveHighestBidsByAuction(auction, topOne);
         
-        if (!highestBids.isEmpty()) {
-            Bid winningBid = highestBids.get(0);
+        Bid winningBid = highestBids.isEmpty() ? null : highestBids.get(0);
+        if (winningBid != null) {
             auction.setCurrentPrice(winningBid.getAmount());
         }
 
         auction.setStatus("COMPLETED");
         auctionRepository.save(auction);
+        finishClose(auctionPublicId, winningBid, auction.getCurrentPrice());
 
         log.info("İhale tamamlandı (escrow olmadan): {}", auctionPublicId);
     }
@@ -116,20 +168,54 @@ public class AuctionService {
 
         auction.setStatus("CANCELLED");
         auctionRepository.save(auction);
+        finishClose(auctionPublicId, null, auction.getCurrentPrice());
 
         log.info("İhale iptal edildi: {}, Sebep: {}", auctionPublicId, reason);
     }
 
+    /**
+     * Otomatik, manuel veya iptal yoluyla kapanan her ihale için ortak son adım: teklif şeridini yeniler,
+     * bitiş takibini bırakır ve kapanış olayını (commit sonrası dinleyicilere) yayınlar
+     */
+    private void finishClose(UUID auctionPublicId, Bid winningBid, BigDecimal finalPrice) {
+        bidSequencer.invalidate(auctionPublicId);
+        deadlineTracker.untrack(auctionPublicId);
+        if (winningBid == null) {
+            eventPublisher.publishEvent(new AuctionClosedEvent(auctionPublicId, false, null, null, finalPrice));
+        } else {
+            eventPublisher.publishEvent(new AuctionClosedEvent(auctionPublicId, true, winningBid.getPublicId(),
+                    winningBid.getBidder().getPublicId(), finalPrice));
+        }
+    }
+
     /**
      * İhalenin kazanan teklifini getirir
      */
     public Bid getWinningBid(UUID auctionPublicId) {
+        Optional<UUID> leadingBidPublicId = bidLeaderboardService.getLeadingBidPublicId(auctionPublicId);
+        if (leadingBidPublicId.isPresent()) {
+            Optional<Bid> leadingBid = bidRepository.findByPublicId(leadingBidPublicId.get());
+            if (leadingBid.isPresent()) {
+                return leadingBid.get();
+            }
+        }
+
         Auction auction = auctionRepository.findByPublicId(auctionPublicId)
                 .orElseThrow(() -> new RuntimeException("İhale bulunamadı: " + auctionPublicId));
 
         Pageable topOne = PageRequest.of(0, 1);
         List<Bid> highestBids = bidRepository.findActiveHighestBidsByAuction(auction, topOne);
         
+        if (!highestBids.isEmpty()) {
+            bidLeaderboardService.rebuild(auctionPublicId);
+        }
         return highestBids.isEmpty() ? null : highestBids.get(0);
     }
-}
\ No newline at end of file
+
+    public enum CloseOutcome {
+        SOLD, NO_SALE, NOT_DUE, ALREADY_CLOSED
+    }
+
+    public record AuctionCloseResult(CloseOutcome outcome, LocalDateTime endTime) {
+    }
+}
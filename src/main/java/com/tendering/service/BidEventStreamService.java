@@ -0,0 +1,253 @@
+package com.tendering.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tendering.event.BidAcceptedEvent;
+import com.tendering.util.EventRingBuffer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * İhale başına Server-Sent Events teklif akışı.
+ * Son teklifler ihale başına bir halka tamponda tutulur; yeniden bağlanan istemci Last-Event-ID'den
+ * itibaren kaçırdıklarını veritabanına gitmeden alır. Olay kimliği teklifin public ID'sidir ve tampon diğer
+ * node'lardan gelen tekliflerle de beslenir; böylece istemci hangi node'a yeniden bağlanırsa bağlansın devam edebilir.
+ * Her abone tampon üzerinde kendi konumunu izler, bu yüzden yavaş istemciler için ayrıca kuyruk tutulmaz.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BidEventStreamService {
+
+    private static final String BID_EVENT = "bid";
+    private static final String RESYNC_EVENT = "resync";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${bid.stream.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${bid.stream.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${bid.stream.feed-idle-ttl-ms:600000}")
+    private long feedIdleTtlMs;
+
+    @Value("${bid.stream.sender-threads:4}")
+    private int senderThreads;
+
+    private final Map<UUID, Feed> feeds = new ConcurrentHashMap<>();
+    private final AtomicInteger threadCounter = new AtomicInteger();
+    private ExecutorService senders;
+
+    @PostConstruct
+    void init() {
+        senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "bid-stream-sender-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+        feeds.values().forEach(feed -> feed.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    /**
+     * Yeni bir SSE aboneliği açar; lastEventId geçerliyse kaçırılan teklifler hemen gönderilir
+     */
+    public SseEmitter subscribe(UUID auctionPublicId, String lastEventId) {
+        // touch compute içinde yapılır; böylece boşta tampon temizliği yeni aboneliğin tamponunu silemez
+        Feed feed = feeds.compute(auctionPublicId, (key, current) -> {
+            Feed target = current != null ? current : new Feed(new EventRingBuffer<>(bufferSize), bufferSize);
+            target.touch();
+            return target;
+        });
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+
+        long resumeFrom = feed.buffer.lastSequence();
+        boolean resync = false;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            Optional<Long> sequence = feed.sequenceOf(lastEventId);
+            if (sequence.isPresent()) {
+                resumeFrom = sequence.get();
+            } else {
+                resync = true;
+            }
+        }
+
+        Subscriber subscriber = new Subscriber(emitter, resumeFrom);
+        emitter.onCompletion(() -> feed.subscribers.remove(subscriber));
+        emitter.onTimeout(() -> feed.subscribers.remove(subscriber));
+        emitter.onError(error -> feed.subscribers.remove(subscriber));
+        feed.subscribers.add(subscriber);
+
+        if (resync) {
+            sendResync(subscriber);
+        }
+        schedule(feed, subscriber);
+        return emitter;
+    }
+
+    /**
+     * Yerel ve diğer node'lardan gelen teklifler aynı tampona eklenir. Teklif şeridinde senkron çalışır;
+     * yalnızca tampona ekler, gönderim gönderici havuzundadır
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidAccepted(BidAcceptedEvent event) {
+        Feed feed = feeds.get(event.getAuctionPublicId());
+        if (feed == null) {
+            // Bu düğümde izleyen yok; tampon ilk abonelikte oluşur
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event.getBid());
+        } catch (JsonProcessingException e) {
+            log.warn("Bid stream event could not be serialized for auction: {}", event.getAuctionPublicId(), e);
+            return;
+        }
+        feed.buffer.append(new StreamEvent(event.getBid().getPublicId().toString(), payload));
+        feed.subscribers.forEach(subscriber -> schedule(feed, subscriber));
+    }
+
+    /**
+     * Proxy'lerin boşta bağlantıyı kesmemesi için yorum satırı gönderir; aboneliği kalmamış eski tamponları atar
+     */
+    @Scheduled(fixedDelayString = "${bid.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        feeds.forEach((auctionPublicId, feed) -> {
+            if (feed.subscribers.isEmpty()) {
+                feeds.computeIfPresent(auctionPublicId, (key, current) ->
+                        current.subscribers.isEmpty() && now - current.lastActiveAt > feedIdleTtlMs ? null : current);
+                return;
+            }
+            feed.touch();
+            for (Subscriber subscriber : feed.subscribers) {
+                senders.execute(() -> send(subscriber, SseEmitter.event().comment("ping")));
+            }
+        });
+    }
+
+    private void schedule(Feed feed, Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            senders.execute(() -> {
+                try {
+                    drain(feed, subscriber);
+                } finally {
+                    subscriber.draining.set(false);
+                }
+                if (subscriber.position < feed.buffer.lastSequence() && feed.subscribers.contains(subscriber)) {
+                    schedule(feed, subscriber);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Kapanış sırasında yayıncıya (teklif şeridine) hata taşınmasın
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void drain(Feed feed, Subscriber subscriber) {
+        Optional<List<EventRingBuffer.Entry<StreamEvent>>> pending = feed.buffer.since(subscriber.position);
+        if (pending.isEmpty()) {
+            // Abone tamponun gerisinde kaldı; baştan yükleyip güncel konumdan devam etsin
+            subscriber.position = feed.buffer.lastSequence();
+            sendResync(subscriber);
+            return;
+        }
+        for (EventRingBuffer.Entry<StreamEvent> entry : pending.get()) {
+            boolean sent = send(subscriber, SseEmitter.event()
+                    .id(entry.event().id())
+                    .name(BID_EVENT)
+                    .data(entry.event().payload(), MediaType.APPLICATION_JSON));
+            if (!sent) {
+                return;
+            }
+            subscriber.position = entry.sequence();
+        }
+    }
+
+    private void sendResync(Subscriber subscriber) {
+        send(subscriber, SseEmitter.event().name(RESYNC_EVENT).data("{}", MediaType.APPLICATION_JSON));
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            subscriber.emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private record StreamEvent(String id, String payload) {
+    }
+
+    private static final class Feed {
+        private final EventRingBuffer<StreamEvent> buffer;
+        private final int capacity;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private volatile long lastActiveAt = System.currentTimeMillis();
+
+        private Feed(EventRingBuffer<StreamEvent> buffer, int capacity) {
+            this.buffer = buffer;
+            this.capacity = capacity;
+        }
+
+        /**
+         * Olay kimliği hâlâ tampondaysa yerel sıra numarası; düşmüş veya bilinmiyorsa boş
+         */
+        private Optional<Long> sequenceOf(String eventId) {
+            // Bir eşzamanlı ekleme payı bırakılır; aksi halde tampon kaydığında arama boş döner
+            long oldest = Math.max(0, buffer.lastSequence() - capacity + 1);
+            return buffer.since(oldest).flatMap(entries -> entries.stream()
+                    .filter(entry -> entry.event().id().equals(eventId))
+                    .map(EventRingBuffer.Entry::sequence)
+                    .findFirst());
+        }
+
+        private void touch() {
+            lastActiveAt = System.currentTimeMillis();
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // Bu aboneye gönderilen son olayın sıra numarası
+        private volatile long position;
+
+        private Subscriber(SseEmitter emitter, long position) {
+            this.emitter = emitter;
+            this.position = position;
+        }
+    }
+}
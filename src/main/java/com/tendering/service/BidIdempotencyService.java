@@ -0,0 +1,199 @@
+package com.tendering.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tendering.dto.request.bid.BidCreateRequest;
+import com.tendering.dto.response.bid.BidResponse;
+import com.tendering.exceptionHandlers.IdempotencyConflictException;
+import com.tendering.util.LruTtlCache;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key ile gelen teklif isteklerinin tekrarlarını ilk yanıtla cevaplar.
+ * Sonuçlar önce sınırlı bir yerel LRU'da, ardından tüm node'lar için Redis'te TTL ile tutulur.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BidIdempotencyService {
+
+    private static final String KEY_PREFIX = "bid_idempotency:";
+    private static final String PENDING = "PENDING";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${bid.idempotency.local-max-entries:10000}")
+    private int localMaxEntries;
+
+    @Value("${bid.idempotency.local-ttl-seconds:600}")
+    private long localTtlSeconds;
+
+    @Value("${bid.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${bid.idempotency.pending-ttl-seconds:30}")
+    private long pendingTtlSeconds;
+
+    @Value("${bid.idempotency.wait-timeout-ms:5000}")
+    private long waitTimeoutMs;
+
+    private final Map<String, CompletableFuture<StoredBid>> inFlight = new ConcurrentHashMap<>();
+    private LruTtlCache<String, StoredBid> localCache;
+
+    @PostConstruct
+    void init() {
+        localCache = new LruTtlCache<>(localMaxEntries, Duration.ofSeconds(localTtlSeconds));
+    }
+
+    /**
+     * İsteği anahtar başına yalnızca bir kez çalıştırır; tekrarlarda saklanan yanıtı döner
+     */
+    public Outcome execute(UUID bidderPublicId, String idempotencyKey, BidCreateRequest request,
+                           Supplier<BidResponse> action) {
+        String key = KEY_PREFIX + bidderPublicId + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+
+        StoredBid cached = localCache.get(key);
+        if (cached != null) {
+            return replay(cached, fingerprint);
+        }
+
+        CompletableFuture<StoredBid> own = new CompletableFuture<>();
+        CompletableFuture<StoredBid> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            // Aynı node'da eşzamanlı tekrar: ilk isteğin sonucunu bekle
+            return replay(await(existing), fingerprint);
+        }
+
+        try {
+            StoredBid stored = readRemote(key);
+            if (stored != null) {
+                localCache.put(key, stored);
+                own.complete(stored);
+                return replay(stored, fingerprint);
+            }
+            if (!claimRemote(key, fingerprint)) {
+                throw new IdempotencyConflictException("Bu Idempotency-Key ile teklif hâlâ işleniyor");
+            }
+
+            BidResponse response;
+            try {
+                response = action.get();
+            } catch (RuntimeException e) {
+                // Başarısız istekler saklanmaz; istemci aynı anahtarla yeniden deneyebilir
+                releaseRemote(key);
+                throw e;
+            }
+
+            StoredBid result = new StoredBid(fingerprint, response);
+            localCache.put(key, result);
+            writeRemote(key, result);
+            own.complete(result);
+            return new Outcome(response, false);
+        } catch (RuntimeException e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    private Outcome replay(StoredBid stored, String fingerprint) {
+        if (!stored.getFingerprint().equals(fingerprint)) {
+            throw new IdempotencyConflictException("Bu Idempotency-Key farklı bir teklif için kullanılmış");
+        }
+        return new Outcome(stored.getResponse(), true);
+    }
+
+    private StoredBid await(CompletableFuture<StoredBid> future) {
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException("Bu Idempotency-Key ile teklif hâlâ işleniyor");
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException("Bu Idempotency-Key ile teklif hâlâ işleniyor");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private StoredBid readRemote(String key) {
+        try {
+            Object value = redisTemplate.opsForValue().get(key);
+            if (value == null || value.toString().startsWith(PENDING)) {
+                return null;
+            }
+            return objectMapper.readValue(value.toString(), StoredBid.class);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Idempotency record could not be read: {}", key, e);
+            return null;
+        }
+    }
+
+    private boolean claimRemote(String key, String fingerprint) {
+        try {
+            Boolean claimed = redisTemplate.opsForValue()
+                    .setIfAbsent(key, PENDING + ":" + fingerprint, pendingTtlSeconds, TimeUnit.SECONDS);
+            return Boolean.TRUE.equals(claimed);
+        } catch (DataAccessException e) {
+            // Redis yoksa yalnızca yerel koruma ile devam et
+            log.warn("Idempotency key could not be claimed: {}", key, e);
+            return true;
+        }
+    }
+
+    private void releaseRemote(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("Idempotency key could not be released: {}", key, e);
+        }
+    }
+
+    private void writeRemote(String key, StoredBid stored) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(stored), ttlHours, TimeUnit.HOURS);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Idempotency record could not be stored: {}", key, e);
+        }
+    }
+
+    private String fingerprint(BidCreateRequest request) {
+        return request.getAuctionPublicId() + ":" + request.getAmount().stripTrailingZeros().toPlainString();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StoredBid {
+        private String fingerprint;
+        private BidResponse response;
+    }
+
+    public record Outcome(BidResponse response, boolean replayed) {
+    }
+}
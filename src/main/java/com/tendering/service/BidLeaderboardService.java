@@ -0,0 +1,356 @@
+package com.tendering.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tendering.dto.response.bid.BidResponse;
+import com.tendering.event.BidAcceptedEvent;
+import com.tendering.event.BidCanceledEvent;
+import com.tendering.model.Bid;
+import com.tendering.repository.BidRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * İhale başına Redis sorted set üzerinde en yüksek teklif sıralamasını tutar.
+ * Anahtar yoksa veya Redis erişilemezse çağıran taraf veritabanına düşer ve sıralama tembel olarak yeniden kurulur.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BidLeaderboardService {
+
+    private static final String LEADERBOARD_PREFIX = "bid_leaderboard:";
+    private static final String BIDS_SUFFIX = ":bids";
+    private static final String READY_SUFFIX = ":ready";
+    private static final String VERSION_SUFFIX = ":version";
+    private static final String REBUILD_SUFFIX = ":rebuild:";
+    private static final long REBUILD_KEY_TTL_SECONDS = 60;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final BidRepository bidRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${bid.leaderboard.ttl-hours:168}")
+    private long ttlHours;
+
+    @Value("${bid.leaderboard.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${bid.leaderboard.batch-size:100}")
+    private int writeBatchSize;
+
+    private BlockingQueue<Update> updates;
+    // Güncellemesi kaybolan ihaleler; yazıcı sıralamayı silip bir sonraki okumada yeniden kurdurur
+    private final Set<UUID> toEvict = ConcurrentHashMap.newKeySet();
+    private Thread writer;
+    private volatile boolean running;
+
+    /**
+     * Redis yazmaları teklif şeridinde değil ayrı bir yazıcı iş parçacığında yapılır; Redis yavaşsa
+     * teklifler beklemez. Tek yazıcı aynı ihalenin kabul ve iptal sırasını korur.
+     */
+    @PostConstruct
+    void init() {
+        updates = new LinkedBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::writeLoop, "bid-leaderboard-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        writer.interrupt();
+    }
+
+    // Sıralama Redis'te paylaşılır; yalnızca teklifi kabul eden node yazar
+    @TransactionalEventListener(fallbackExecution = true, condition = "!#event.remote")
+    public void onBidAccepted(BidAcceptedEvent event) {
+        BidResponse bid = event.getBid();
+        try {
+            enqueue(new Update(event.getAuctionPublicId(), bid.getPublicId().toString(),
+                    bid.getAmount().doubleValue(), objectMapper.writeValueAsString(bid)));
+        } catch (JsonProcessingException e) {
+            log.warn("Leaderboard entry could not be serialized for auction: {}", event.getAuctionPublicId(), e);
+            toEvict.add(event.getAuctionPublicId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true, condition = "!#event.remote")
+    public void onBidCanceled(BidCanceledEvent event) {
+        enqueue(new Update(event.getAuctionPublicId(), event.getBidPublicId().toString(), 0, null));
+    }
+
+    private void enqueue(Update update) {
+        if (!updates.offer(update)) {
+            // Kuyruk dolu; sıralama eksik kalmasın, veritabanından yeniden kurulsun
+            log.warn("Leaderboard update queue full, evicting leaderboard for auction: {}", update.auctionPublicId());
+            toEvict.add(update.auctionPublicId());
+        }
+    }
+
+    private void writeLoop() {
+        List<Update> batch = new ArrayList<>(writeBatchSize);
+        while (running) {
+            try {
+                batch.add(updates.take());
+                updates.drainTo(batch, writeBatchSize - 1);
+                evictPending();
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Leaderboard writer failed for {} updates", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void evictPending() {
+        for (UUID auctionPublicId : List.copyOf(toEvict)) {
+            toEvict.remove(auctionPublicId);
+            evict(auctionPublicId);
+        }
+    }
+
+    /**
+     * Parçadaki tüm yazmaları, sürüm artışlarını ve TTL yenilemelerini tek pipeline'da gönderir
+     */
+    private void write(List<Update> batch) {
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    Set<UUID> touched = new HashSet<>();
+                    for (Update update : batch) {
+                        UUID auctionPublicId = update.auctionPublicId();
+                        if (update.payload() != null) {
+                            ops.opsForZSet().add(rankingKey(auctionPublicId), update.member(), update.score());
+                            ops.opsForHash().put(bidsKey(auctionPublicId), update.member(), update.payload());
+                        } else {
+                            ops.opsForZSet().remove(rankingKey(auctionPublicId), update.member());
+                            ops.opsForHash().delete(bidsKey(auctionPublicId), update.member());
+                        }
+                        ops.opsForValue().increment(versionKey(auctionPublicId));
+                        if (update.payload() != null && touched.add(auctionPublicId)) {
+                            touch(ops, auctionPublicId);
+                        }
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            // Sıralama bozulmuş olabilir; bir sonraki okuma veritabanından yeniden kursun
+            log.warn("Leaderboard could not be updated for {} entries", batch.size(), e);
+            batch.stream().map(Update::auctionPublicId).distinct().forEach(this::evict);
+        }
+    }
+
+    /**
+     * En yüksek teklifleri döner; sıralama hazır değilse boş Optional döner
+     */
+    public Optional<List<BidResponse>> getTopBids(UUID auctionPublicId, int limit) {
+        try {
+            if (!isReady(auctionPublicId)) {
+                return Optional.empty();
+            }
+
+            Set<Object> members = redisTemplate.opsForZSet().reverseRange(rankingKey(auctionPublicId), 0, limit - 1L);
+            if (members == null || members.isEmpty()) {
+                return Optional.of(List.of());
+            }
+
+            List<Object> payloads = redisTemplate.opsForHash().multiGet(bidsKey(auctionPublicId), new ArrayList<>(members));
+            List<BidResponse> bids = new ArrayList<>(payloads.size());
+            for (Object payload : payloads) {
+                if (payload == null) {
+                    // Sorted set ile hash ayrışmış; güvenli tarafta kalıp yeniden kur
+                    evict(auctionPublicId);
+                    return Optional.empty();
+                }
+                bids.add(objectMapper.readValue((String) payload, BidResponse.class));
+            }
+            return Optional.of(bids);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Leaderboard read failed for auction: {}", auctionPublicId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * En yüksek teklif tutarını döner; sıralama hazır değilse veya hiç teklif yoksa boş Optional döner
+     */
+    public Optional<BigDecimal> getHighestAmount(UUID auctionPublicId) {
+        return getTopBids(auctionPublicId, 1)
+                .flatMap(bids -> bids.stream().findFirst())
+                .map(BidResponse::getAmount);
+    }
+
+    /**
+     * En yüksek teklifin public ID'sini döner; sıralama hazır değilse boş Optional döner
+     */
+    public Optional<UUID> getLeadingBidPublicId(UUID auctionPublicId) {
+        try {
+            if (!isReady(auctionPublicId)) {
+                return Optional.empty();
+            }
+            Set<Object> members = redisTemplate.opsForZSet().reverseRange(rankingKey(auctionPublicId), 0, 0);
+            if (members == null || members.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(UUID.fromString((String) members.iterator().next()));
+        } catch (DataAccessException e) {
+            log.warn("Leaderboard read failed for auction: {}", auctionPublicId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Sıralamayı veritabanındaki aktif tekliflerden geçici anahtarlarda kurar ve tek MULTI/EXEC içinde
+     * asıl anahtarların yerine koyar. Kurulum sırasında teklif kabul edilir veya iptal edilirse sürüm değişir,
+     * değiştirme iptal edilir ve sıralama bir sonraki okumada yeniden kurulur.
+     */
+    public void rebuild(UUID auctionPublicId) {
+        String tempRanking = rankingKey(auctionPublicId) + REBUILD_SUFFIX + UUID.randomUUID();
+        String tempBids = tempRanking + BIDS_SUFFIX;
+        try {
+            Object versionBefore = redisTemplate.opsForValue().get(versionKey(auctionPublicId));
+            List<Bid> activeBids = bidRepository.findActiveWithBidderByAuctionPublicId(auctionPublicId);
+
+            Set<ZSetOperations.TypedTuple<Object>> scores = new HashSet<>();
+            Map<String, Object> payloads = new HashMap<>();
+            for (Bid bid : activeBids) {
+                String member = bid.getPublicId().toString();
+                scores.add(new DefaultTypedTuple<>(member, bid.getAmount().doubleValue()));
+                payloads.put(member, objectMapper.writeValueAsString(BidResponse.fromEntity(bid)));
+            }
+            if (!scores.isEmpty()) {
+                redisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) {
+                        RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                        ops.opsForZSet().add(tempRanking, scores);
+                        ops.opsForHash().putAll(tempBids, payloads);
+                        // Yarıda kalan kurulumlar birikmesin
+                        ops.expire(tempRanking, REBUILD_KEY_TTL_SECONDS, TimeUnit.SECONDS);
+                        ops.expire(tempBids, REBUILD_KEY_TTL_SECONDS, TimeUnit.SECONDS);
+                        return null;
+                    }
+                });
+            }
+
+            boolean swapped = Boolean.TRUE.equals(redisTemplate.execute(new SessionCallback<Boolean>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Boolean execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    ops.watch(versionKey(auctionPublicId));
+                    if (!Objects.equals(versionBefore, ops.opsForValue().get(versionKey(auctionPublicId)))) {
+                        ops.unwatch();
+                        return false;
+                    }
+                    ops.multi();
+                    if (scores.isEmpty()) {
+                        ops.delete(List.of(rankingKey(auctionPublicId), bidsKey(auctionPublicId)));
+                    } else {
+                        ops.rename(tempRanking, rankingKey(auctionPublicId));
+                        ops.rename(tempBids, bidsKey(auctionPublicId));
+                    }
+                    ops.opsForValue().set(readyKey(auctionPublicId), "1");
+                    touch(ops, auctionPublicId);
+                    List<Object> results = ops.exec();
+                    return results != null && !results.isEmpty();
+                }
+            }));
+            if (swapped) {
+                log.debug("Leaderboard rebuilt for auction: {} with {} bids", auctionPublicId, activeBids.size());
+            } else {
+                redisTemplate.delete(List.of(tempRanking, tempBids));
+                log.debug("Leaderboard rebuild for auction {} discarded after concurrent bid change", auctionPublicId);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Leaderboard rebuild failed for auction: {}", auctionPublicId, e);
+        }
+    }
+
+    public void evict(UUID auctionPublicId) {
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    ops.delete(List.of(readyKey(auctionPublicId), rankingKey(auctionPublicId), bidsKey(auctionPublicId)));
+                    // Devam eden bir yeniden kurulum eski veriyi hazır olarak işaretlemesin
+                    ops.opsForValue().increment(versionKey(auctionPublicId));
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("Leaderboard could not be evicted for auction: {}", auctionPublicId, e);
+        }
+    }
+
+    private boolean isReady(UUID auctionPublicId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(readyKey(auctionPublicId)));
+    }
+
+    private void touch(RedisOperations<String, Object> ops, UUID auctionPublicId) {
+        ops.expire(readyKey(auctionPublicId), ttlHours, TimeUnit.HOURS);
+        ops.expire(rankingKey(auctionPublicId), ttlHours, TimeUnit.HOURS);
+        ops.expire(bidsKey(auctionPublicId), ttlHours, TimeUnit.HOURS);
+        ops.expire(versionKey(auctionPublicId), ttlHours, TimeUnit.HOURS);
+    }
+
+    // payload null ise iptal edilen teklif sıralamadan çıkarılır
+    private record Update(UUID auctionPublicId, String member, double score, String payload) {
+    }
+
+    private String rankingKey(UUID auctionPublicId) {
+        return LEADERBOARD_PREFIX + auctionPublicId;
+    }
+
+    private String bidsKey(UUID auctionPublicId) {
+        return LEADERBOARD_PREFIX + auctionPublicId + BIDS_SUFFIX;
+    }
+
+    private String readyKey(UUID auctionPublicId) {
+        return LEADERBOARD_PREFIX + auctionPublicId + READY_SUFFIX;
+    }
+
+    private String versionKey(UUID auctionPublicId) {
+        return LEADERBOARD_PREFIX + auctionPublicId + VERSION_SUFFIX;
+    }
+}
@@ -0,0 +1,120 @@
+package com.tendering.service;
+
+import com.tendering.exceptionHandlers.RateLimitExceededException;
+import com.tendering.util.TokenBucket;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Teklif yoluna giriş hız sınırı. Teklif veren ve ihale başına yerel token bucket'lar veritabanına
+ * dokunmadan uygulanır; istenirse Redis üzerinde saniyelik küresel bütçe de kontrol edilir.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BidRateLimiter {
+
+    private static final String GLOBAL_PREFIX = "bid_rate:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${bid.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${bid.rate-limit.bidder.capacity:5}")
+    private int bidderCapacity;
+
+    @Value("${bid.rate-limit.bidder.refill-per-second:2}")
+    private double bidderRefillPerSecond;
+
+    @Value("${bid.rate-limit.auction.capacity:200}")
+    private int auctionCapacity;
+
+    @Value("${bid.rate-limit.auction.refill-per-second:100}")
+    private double auctionRefillPerSecond;
+
+    @Value("${bid.rate-limit.global.enabled:false}")
+    private boolean globalEnabled;
+
+    @Value("${bid.rate-limit.global.bidder-per-second:10}")
+    private long globalBidderPerSecond;
+
+    @Value("${bid.rate-limit.global.auction-per-second:500}")
+    private long globalAuctionPerSecond;
+
+    private final Map<UUID, TokenBucket> bidderBuckets = new ConcurrentHashMap<>();
+    private final Map<UUID, TokenBucket> auctionBuckets = new ConcurrentHashMap<>();
+
+    /**
+     * Teklif kabul edilebilecekse döner, edilemeyecekse RateLimitExceededException fırlatır
+     */
+    public void admit(UUID bidderPublicId, UUID auctionPublicId) {
+        if (!enabled) {
+            return;
+        }
+
+        long bidderWait = bidderBuckets
+                .computeIfAbsent(bidderPublicId, id -> new TokenBucket(bidderCapacity, bidderRefillPerSecond))
+                .tryAcquire();
+        if (bidderWait > 0) {
+            throw rejected("Çok fazla teklif gönderdiniz, lütfen biraz bekleyin", bidderWait);
+        }
+
+        long auctionWait = auctionBuckets
+                .computeIfAbsent(auctionPublicId, id -> new TokenBucket(auctionCapacity, auctionRefillPerSecond))
+                .tryAcquire();
+        if (auctionWait > 0) {
+            throw rejected("Bu ihaleye şu anda çok fazla teklif geliyor, lütfen tekrar deneyin", auctionWait);
+        }
+
+        if (globalEnabled) {
+            checkGlobalBudget("bidder:" + bidderPublicId, globalBidderPerSecond,
+                    "Çok fazla teklif gönderdiniz, lütfen biraz bekleyin");
+            checkGlobalBudget("auction:" + auctionPublicId, globalAuctionPerSecond,
+                    "Bu ihaleye şu anda çok fazla teklif geliyor, lütfen tekrar deneyin");
+        }
+    }
+
+    /**
+     * Tüm node'ların ortak kullandığı saniyelik sayaç; Redis erişilemezse yalnızca yerel sınır geçerli olur
+     */
+    private void checkGlobalBudget(String scope, long perSecond, String message) {
+        long second = System.currentTimeMillis() / 1000;
+        String key = GLOBAL_PREFIX + scope + ":" + second;
+        try {
+            Long count = redisTemplate.opsForValue().increment(key);
+            if (count != null && count == 1) {
+                redisTemplate.expire(key, 2, TimeUnit.SECONDS);
+            }
+            if (count != null && count > perSecond) {
+                throw new RateLimitExceededException(message, 1);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Global bid rate budget could not be checked for {}", scope, e);
+        }
+    }
+
+    private RateLimitExceededException rejected(String message, long waitNanos) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        return new RateLimitExceededException(message, retryAfterSeconds);
+    }
+
+    /**
+     * Dolu kovalar varsayılan durumla aynıdır; bellekte tutulmalarına gerek yok
+     */
+    @Scheduled(fixedDelayString = "${bid.rate-limit.eviction-interval-ms:60000}")
+    public void evictFullBuckets() {
+        bidderBuckets.entrySet().removeIf(entry -> entry.getValue().isFull());
+        auctionBuckets.entrySet().removeIf(entry -> entry.getValue().isFull());
+    }
+}
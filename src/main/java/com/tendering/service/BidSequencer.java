@@ -0,0 +1,773 @@
+package com.tendering.service;
+
+import com.tendering.dto.response.bid.BidResponse;
+import com.tendering.dto.response.bid.ProxyBidResponse;
+import com.tendering.event.AuctionClosedEvent;
+import com.tendering.event.AuctionEndReachedEvent;
+import com.tendering.event.AuctionEndTimeExtendedEvent;
+import com.tendering.event.AuctionsActivatedEvent;
+import com.tendering.event.BidAcceptedEvent;
+import com.tendering.event.BidCanceledEvent;
+import com.tendering.event.ClusterEvent;
+import com.tendering.exceptionHandlers.BidRejectedException;
+import com.tendering.exceptionHandlers.ResourceNotFoundException;
+import com.tendering.model.Auction;
+import com.tendering.model.Bid;
+import com.tendering.model.ProxyBid;
+import com.tendering.model.User;
+import com.tendering.repository.AuctionRepository;
+import com.tendering.repository.BidRepository;
+import com.tendering.repository.ProxyBidRepository;
+import com.tendering.util.ProxyBidResolver;
+import com.tendering.validator.bid.BidValidationContext;
+import com.tendering.validator.bid.BidValidationResult;
+import com.tendering.validator.bid.BidValidator;
+import com.tendering.validator.bid.BidderFunds;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Aynı ihaleye gelen teklifleri tek bir yazıcı üzerinden sıralar.
+ * Her ihale için bir kuyruk tutulur ve bu kuyruk aynı anda yalnızca bir worker tarafından boşaltılır;
+ * teklifler bellekteki ihale durumuna göre doğrulanır, proxy teklifler bellekte çözülür ve
+ * ortaya çıkan teklifler tek transaction'da toplu yazılır.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BidSequencer {
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final ProxyBidRepository proxyBidRepository;
+    private final ProxyBidResolver proxyBidResolver;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuctionDeadlineTracker deadlineTracker;
+    private final BidValidator bidValidator;
+
+    @Value("${bid.sequencer.worker-threads:4}")
+    private int workerThreads;
+
+    @Value("${bid.sequencer.batch-size:50}")
+    private int batchSize;
+
+    @Value("${bid.sequencer.submit-timeout-ms:5000}")
+    private long submitTimeoutMs;
+
+    @Value("${bid.sequencer.outcome-timeout-ms:30000}")
+    private long outcomeTimeoutMs;
+
+    @Value("${bid.sequencer.max-conflict-retries:3}")
+    private int maxConflictRetries;
+
+    @Value("${bid.sequencer.idle-lane-ttl-ms:300000}")
+    private long idleLaneTtlMs;
+
+    @Value("${auction.soft-close.enabled:true}")
+    private boolean softCloseEnabled;
+
+    @Value("${auction.soft-close.window-seconds:60}")
+    private long softCloseWindowSeconds;
+
+    @Value("${auction.soft-close.extension-seconds:60}")
+    private long softCloseExtensionSeconds;
+
+    private final Map<UUID, AuctionLane> lanes = new ConcurrentHashMap<>();
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadCounter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "bid-sequencer-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Teklifi ihalenin kuyruğuna ekler ve sıralı işlenmesini bekler
+     */
+    public BidResponse submit(UUID auctionPublicId, User bidder, BidderFunds funds, BigDecimal amount) {
+        return (BidResponse) await(auctionPublicId, new PendingBid(bidder, funds, amount, false));
+    }
+
+    /**
+     * Proxy (maksimum) teklifi kaydeder ve rakip proxy'lerle aynı kuyrukta çözer
+     */
+    public ProxyBidResponse submitProxy(UUID auctionPublicId, User bidder, BidderFunds funds, BigDecimal maxAmount) {
+        return (ProxyBidResponse) await(auctionPublicId, new PendingBid(bidder, funds, maxAmount, true));
+    }
+
+    /**
+     * Aktif proxy teklifi ihalenin kuyruğunda iptal eder; işlenmekte olan batch iptal edilen proxy ile teklif veremez
+     */
+    public ProxyBidResponse cancelProxy(UUID auctionPublicId, User bidder) {
+        return (ProxyBidResponse) await(auctionPublicId, new PendingBid(bidder, null, null, false, true));
+    }
+
+    /**
+     * Teklifi ihalenin kuyruğunda iptal eder; özetler şeritte yeniden hesaplandığı için eşzamanlı bir batch'in
+     * koşullu fiyat güncellemesi eski bir anlık görüntüyle ezilmez
+     */
+    public BidResponse cancelBid(UUID auctionPublicId, UUID bidPublicId) {
+        return (BidResponse) await(auctionPublicId, new PendingBid(bidPublicId));
+    }
+
+    private Object await(UUID auctionPublicId, PendingBid pending) {
+        AuctionLane lane = lanes.computeIfAbsent(auctionPublicId, AuctionLane::new);
+        while (!lane.enqueue(pending)) {
+            // Kuyruk tam o anda boşta diye kaldırıldıysa yenisini oluştur
+            lane = lanes.computeIfAbsent(auctionPublicId, AuctionLane::new);
+        }
+
+        try {
+            return pending.result.get(submitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Worker henüz almadıysa sahiplenip iptal et; aldıysa teklif yazılabilir, gerçek sonucu sınırlı süre bekle
+            if (pending.claim()) {
+                pending.result.cancel(false);
+                throw new IllegalStateException("Teklif zaman aşımına uğradı, lütfen tekrar deneyin");
+            }
+            return awaitOutcome(pending);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Teklif işlenemedi", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (pending.claim()) {
+                pending.result.cancel(false);
+            }
+            throw new IllegalStateException("Teklif işlemi kesintiye uğradı");
+        }
+    }
+
+    /**
+     * İşlenmeye başlamış teklifin sonucunu bekler; süre aşılırsa teklif yazılmış da olabilir, yazılmamış da
+     */
+    private Object awaitOutcome(PendingBid pending) {
+        try {
+            return pending.result.get(outcomeTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Teklifin sonucu belirlenemedi, tekrar denemeden önce tekliflerinizi kontrol edin");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Teklif işlenemedi", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Teklif işlemi kesintiye uğradı, tekliflerinizi kontrol edin");
+        }
+    }
+
+    /**
+     * İhale dışarıdan değiştiğinde bellekteki durumun bir sonraki batch'te yeniden yüklenmesini sağlar
+     */
+    public void invalidate(UUID auctionPublicId) {
+        // Değişiklik commit edilmeden yeniden yüklenirse eski durum okunur
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markStale(auctionPublicId);
+                }
+            });
+        } else {
+            markStale(auctionPublicId);
+        }
+    }
+
+    /**
+     * Bitiş zamanı geldiğinde durum yeniden yüklenir; başka bir node uzattıysa yeni bitiş zamanı görülür
+     */
+    @EventListener
+    public void onAuctionEndReached(AuctionEndReachedEvent event) {
+        markStale(event.getAuctionPublicId());
+    }
+
+    /**
+     * Başka bir node'da değişen ihalenin şeridi bir sonraki teklifte veritabanından yeniden yüklenir
+     */
+    @EventListener(condition = "#event.remote")
+    public void onRemoteAuctionChange(ClusterEvent event) {
+        if (event instanceof BidAcceptedEvent accepted) {
+            markStale(accepted.getAuctionPublicId());
+        } else if (event instanceof BidCanceledEvent canceled) {
+            markStale(canceled.getAuctionPublicId());
+        } else if (event instanceof AuctionEndTimeExtendedEvent extended) {
+            markStale(extended.getAuctionPublicId());
+        } else if (event instanceof AuctionClosedEvent closed) {
+            markStale(closed.getAuctionPublicId());
+        } else if (event instanceof AuctionsActivatedEvent activated) {
+            // PENDING iken yüklenen şeritler aktifleşmeyi görmeden teklifleri reddetmeye devam etmesin.
+            // Bitiş takibi ayrıca planlanmaz: aktifleştiren node izler, bu node şerit yüklenirken izlemeye başlar
+            activated.getAuctionPublicIds().forEach(this::markStale);
+        }
+    }
+
+    private void markStale(UUID auctionPublicId) {
+        AuctionLane lane = lanes.get(auctionPublicId);
+        if (lane != null) {
+            lane.stale = true;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bid.sequencer.eviction-interval-ms:60000}")
+    public void evictIdleLanes() {
+        long threshold = System.currentTimeMillis() - idleLaneTtlMs;
+        lanes.forEach((auctionPublicId, lane) -> {
+            if (lane.retireIfIdle(threshold)) {
+                lanes.remove(auctionPublicId, lane);
+                log.debug("Idle bid lane evicted for auction: {}", auctionPublicId);
+            }
+        });
+    }
+
+    private AuctionBidState loadState(UUID auctionPublicId) {
+        Auction auction = auctionRepository.findWithSellerByPublicId(auctionPublicId)
+                .orElseThrow(() -> new ResourceNotFoundException("İhale bulunamadı: " + auctionPublicId));
+
+        AuctionBidState state = AuctionBidState.from(auction);
+        if ("ACTIVE".equals(auction.getStatus())) {
+            deadlineTracker.track(auctionPublicId, auction.getEndTime());
+        } else {
+            deadlineTracker.untrack(auctionPublicId);
+        }
+        if (state.leaderPublicId == null && auction.getBidCount() > 0) {
+            // Özetleri henüz onarılmamış eski kayıtlar için
+            state.leaderPublicId = bidRepository.findLeaderPublicIds(auction.getId(), PageRequest.of(0, 1))
+                    .stream()
+                    .findFirst()
+                    .orElse(null);
+        }
+        state.bidderPublicIds.addAll(bidRepository.findDistinctBidderPublicIds(auction.getId()));
+        for (ProxyBid proxy : proxyBidRepository.findActiveByAuctionId(auction.getId())) {
+            // Lazy ihale proxy'si yerine zaten yüklü kopyayı kullan
+            proxy.setAuction(auction);
+            state.proxies.add(proxy);
+        }
+        return state;
+    }
+
+    private List<BidResponse> persist(AuctionBidState state, List<PlacedBid> placed, LocalDateTime now) {
+        return transactionTemplate.execute(status -> {
+            if (!placed.isEmpty()) {
+                // Batch'in ilk teklifi DB'deki fiyata göre geçerliyse sonrakiler bellekte zaten sıralı doğrulandı
+                BigDecimal floorAmount = placed.get(0).amount;
+                int newBidderDelta = (int) placed.stream()
+                        .map(bid -> bid.bidder.getPublicId())
+                        .filter(bidderPublicId -> !state.bidderPublicIds.contains(bidderPublicId))
+                        .distinct()
+                        .count();
+                int updated = auctionRepository.advanceCurrentPrice(state.auctionId, floorAmount, state.currentPrice,
+                        state.leaderPublicId, placed.size(), newBidderDelta, state.endTime, now);
+                if (updated == 0) {
+                    throw new PriceConflictException();
+                }
+            }
+
+            if (!state.dirtyProxies.isEmpty()) {
+                for (ProxyBid proxy : state.dirtyProxies) {
+                    if (proxy.getId() == null) {
+                        // Daha önce tükenmiş veya iptal edilmiş kayıt varsa onu yeniden kullan
+                        proxyBidRepository.findByAuctionIdAndBidderId(state.auctionId, proxy.getBidder().getId())
+                                .ifPresent(existing -> {
+                                    proxy.setId(existing.getId());
+                                    proxy.setPublicId(existing.getPublicId());
+                                });
+                    }
+                }
+                proxyBidRepository.saveAll(state.dirtyProxies);
+            }
+
+            List<Bid> bids = placed.stream()
+                    .map(bid -> Bid.builder()
+                            .auction(state.auction)
+                            .bidder(bid.bidder)
+                            .amount(bid.amount)
+                            .build())
+                    .collect(Collectors.toList());
+
+            return bidRepository.saveAll(bids).stream()
+                    .map(BidResponse::fromEntity)
+                    .collect(Collectors.toList());
+        });
+    }
+
+    /**
+     * Tek bir ihaleye ait teklif kuyruğu; aynı anda en fazla bir worker tarafından boşaltılır
+     */
+    private final class AuctionLane {
+
+        private final UUID auctionPublicId;
+        private final Queue<PendingBid> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private volatile long lastActivity = System.currentTimeMillis();
+        private volatile boolean stale;
+        private boolean retired;
+
+        // Yalnızca worker thread tarafından okunur/yazılır
+        private AuctionBidState state;
+
+        private AuctionLane(UUID auctionPublicId) {
+            this.auctionPublicId = auctionPublicId;
+        }
+
+        private boolean enqueue(PendingBid pending) {
+            synchronized (this) {
+                if (retired) {
+                    return false;
+                }
+                queue.add(pending);
+                lastActivity = System.currentTimeMillis();
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+            return true;
+        }
+
+        private synchronized boolean retireIfIdle(long threshold) {
+            if (!retired && queue.isEmpty() && !scheduled.get() && lastActivity < threshold) {
+                retired = true;
+            }
+            return retired;
+        }
+
+        private void drain() {
+            List<PendingBid> batch = new ArrayList<>(batchSize);
+            try {
+                PendingBid next;
+                while (batch.size() < batchSize && (next = queue.poll()) != null) {
+                    // Doğrulamadan önce sahiplen; zaman aşımında çağıranın sahiplendiği teklifler atlanır
+                    if (next.claim()) {
+                        batch.add(next);
+                    }
+                }
+                processInOrder(batch);
+            } catch (RuntimeException e) {
+                log.error("Unexpected error while draining bid lane for auction: {}", auctionPublicId, e);
+                stale = true;
+                // Sahiplenilen tekliflerin çağıranları sonsuza kadar beklemesin; tamamlanmış olanlar etkilenmez
+                batch.forEach(pending -> pending.result.completeExceptionally(e));
+            } finally {
+                scheduled.set(false);
+                // Diğer ihalelerin de işlenebilmesi için her batch'ten sonra sıraya geri gir
+                if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                    executor.execute(this::drain);
+                }
+            }
+        }
+
+        /**
+         * Teklif iptalleri sırayı korumak için aradaki teklif gruplarını bölerek tek tek işlenir
+         */
+        private void processInOrder(List<PendingBid> batch) {
+            List<PendingBid> segment = new ArrayList<>(batch.size());
+            for (PendingBid pending : batch) {
+                if (pending.canceledBidPublicId == null) {
+                    segment.add(pending);
+                    continue;
+                }
+                if (!segment.isEmpty()) {
+                    process(segment);
+                    segment = new ArrayList<>(batch.size());
+                }
+                cancelBid(pending);
+            }
+            if (!segment.isEmpty()) {
+                process(segment);
+            }
+        }
+
+        private void cancelBid(PendingBid pending) {
+            UUID bidPublicId = pending.canceledBidPublicId;
+            BidResponse response;
+            try {
+                response = transactionTemplate.execute(status -> {
+                    Bid bid = bidRepository.findByPublicId(bidPublicId)
+                            .orElseThrow(() -> new ResourceNotFoundException("Teklif bulunamadı: " + bidPublicId));
+                    if (!"ACTIVE".equals(bid.getStatus())) {
+                        throw new IllegalStateException("Sadece aktif teklifler iptal edilebilir");
+                    }
+                    Auction auction = bid.getAuction();
+                    if (!auctionPublicId.equals(auction.getPublicId())) {
+                        throw new ResourceNotFoundException("Teklif bulunamadı: " + bidPublicId);
+                    }
+                    if (!"ACTIVE".equals(auction.getStatus()) || auction.getEndTime().isBefore(LocalDateTime.now())) {
+                        throw new IllegalStateException("İhale sonlandığı için teklif iptal edilemez");
+                    }
+                    bid.setStatus("CANCELED");
+                    Bid updated = bidRepository.save(bid);
+                    // Lider değişmiş olabilir, özetler iptal sonrası tablodan yeniden hesaplanır
+                    auctionRepository.recomputeBidAggregates(auction.getId());
+                    return BidResponse.fromEntity(updated);
+                });
+            } catch (RuntimeException e) {
+                pending.result.completeExceptionally(e);
+                return;
+            }
+            // Lider ve proxy'ler bir sonraki batch'te güncel durumdan çözülsün
+            stale = true;
+            pending.result.complete(response);
+            log.debug("Bid {} canceled on auction: {}", bidPublicId, auctionPublicId);
+            publish(new BidCanceledEvent(auctionPublicId, bidPublicId));
+        }
+
+        private void process(List<PendingBid> batch) {
+            List<PendingBid> candidates = batch;
+            for (int attempt = 0; attempt <= maxConflictRetries; attempt++) {
+                if (!ensureState(candidates)) {
+                    return;
+                }
+
+                LocalDateTime now = LocalDateTime.now();
+                UUID leaderBefore = state.leaderPublicId;
+                List<PendingBid> accepted = new ArrayList<>(candidates.size());
+                List<PlacedBid> placed = new ArrayList<>(candidates.size());
+                for (PendingBid pending : candidates) {
+                    if (pending.cancel) {
+                        pending.proxyBid = state.cancelProxy(pending.bidder.getPublicId());
+                        if (pending.proxyBid == null) {
+                            pending.result.completeExceptionally(
+                                    new IllegalStateException("Sadece aktif proxy teklifler iptal edilebilir"));
+                        } else {
+                            accepted.add(pending);
+                        }
+                        continue;
+                    }
+                    BidValidationContext context = state.contextFor(pending, now);
+                    BidValidationResult result = pending.proxy
+                            ? bidValidator.proxyRules().validate(context)
+                            : bidValidator.bidRules().validate(context);
+                    if (!result.valid()) {
+                        pending.result.completeExceptionally(new BidRejectedException(result.failedRule(), result.message()));
+                        continue;
+                    }
+
+                    if (pending.proxy) {
+                        pending.proxyBid = state.registerProxy(pending.bidder, pending.amount);
+                    } else {
+                        state.currentPrice = pending.amount;
+                        state.leaderPublicId = pending.bidder.getPublicId();
+                        placed.add(new PlacedBid(pending.bidder, pending.amount, pending));
+                    }
+                    accepted.add(pending);
+                    resolveProxies(placed);
+                }
+
+                if (accepted.isEmpty()) {
+                    return;
+                }
+                LocalDateTime previousEndTime = state.endTime;
+                if (!placed.isEmpty()) {
+                    extendIfClosing(now);
+                }
+
+                List<BidResponse> responses;
+                try {
+                    responses = persist(state, placed, now);
+                } catch (PriceConflictException e) {
+                    // Fiyat başka bir node tarafından ilerletilmiş; durumu yeniden yükleyip tekrar doğrula
+                    log.debug("Price conflict on auction: {}, reloading state (attempt {})", auctionPublicId, attempt + 1);
+                    stale = true;
+                    candidates = accepted;
+                    continue;
+                } catch (RuntimeException e) {
+                    log.error("Bid batch could not be persisted for auction: {}", auctionPublicId, e);
+                    stale = true;
+                    accepted.forEach(pending -> pending.result.completeExceptionally(e));
+                    return;
+                }
+
+                state.dirtyProxies.clear();
+                placed.forEach(bid -> state.bidderPublicIds.add(bid.bidder.getPublicId()));
+                // Commit edildi; dinleyiciler çalışmadan önce çağıranlara sonucu bildir
+                for (int i = 0; i < placed.size(); i++) {
+                    PendingBid origin = placed.get(i).origin;
+                    if (origin != null) {
+                        origin.result.complete(responses.get(i));
+                    }
+                }
+                for (PendingBid pending : accepted) {
+                    if (pending.proxy || pending.cancel) {
+                        boolean leading = pending.bidder.getPublicId().equals(state.leaderPublicId);
+                        pending.result.complete(ProxyBidResponse.fromEntity(pending.proxyBid, state.currentPrice, leading));
+                    }
+                }
+                log.debug("Persisted {} bids for auction: {}", placed.size(), auctionPublicId);
+
+                if (!state.endTime.equals(previousEndTime)) {
+                    deadlineTracker.track(auctionPublicId, state.endTime);
+                    publish(new AuctionEndTimeExtendedEvent(auctionPublicId, previousEndTime, state.endTime));
+                }
+                for (int i = 0; i < placed.size(); i++) {
+                    // Teklifler artan sırada; her teklif bir öncekinin sahibini geçer
+                    UUID outbid = i == 0 ? leaderBefore : placed.get(i - 1).bidder.getPublicId();
+                    publish(new BidAcceptedEvent(auctionPublicId, responses.get(i), outbid));
+                }
+                return;
+            }
+
+            candidates.forEach(pending -> pending.result.completeExceptionally(
+                    new IllegalStateException("İhale fiyatı değişti, lütfen tekrar deneyin")));
+        }
+
+        /**
+         * Dinleyici hatası kaydedilmiş batch'i başarısız saymasın; her olay ayrı ayrı yayınlanır
+         */
+        private void publish(Object event) {
+            try {
+                eventPublisher.publishEvent(event);
+            } catch (RuntimeException e) {
+                log.error("Listener failed for {} on auction: {}", event.getClass().getSimpleName(), auctionPublicId, e);
+            }
+        }
+
+        /**
+         * Soft-close: kapanışa son N saniye kala gelen teklif bitiş zamanını uzatır
+         */
+        private void extendIfClosing(LocalDateTime now) {
+            if (!softCloseEnabled || now.isBefore(state.endTime.minusSeconds(softCloseWindowSeconds))) {
+                return;
+            }
+            LocalDateTime extended = now.plusSeconds(softCloseExtensionSeconds);
+            if (extended.isAfter(state.endTime)) {
+                state.endTime = extended;
+            }
+        }
+
+        /**
+         * Aktif proxy'leri güncel fiyata karşı çözer ve ortaya çıkan teklifleri sıraya ekler
+         */
+        private void resolveProxies(List<PlacedBid> placed) {
+            if (state.proxies.isEmpty()) {
+                return;
+            }
+
+            ProxyBidResolver.Resolution resolution = proxyBidResolver.resolve(
+                    state.currentPrice, state.leaderPublicId, state.minBidIncrement, state.proxies);
+
+            for (ProxyBidResolver.Step step : resolution.steps()) {
+                placed.add(new PlacedBid(step.proxy().getBidder(), step.amount(), null));
+            }
+            state.currentPrice = resolution.finalPrice();
+            state.leaderPublicId = resolution.leaderPublicId();
+
+            for (ProxyBid proxy : resolution.exhausted()) {
+                proxy.setStatus("EXHAUSTED");
+                state.proxies.remove(proxy);
+                state.dirtyProxies.add(proxy);
+            }
+        }
+
+        private boolean ensureState(List<PendingBid> candidates) {
+            if (state != null && !stale) {
+                return true;
+            }
+            stale = false;
+            try {
+                state = loadState(auctionPublicId);
+                return true;
+            } catch (RuntimeException e) {
+                state = null;
+                candidates.forEach(pending -> pending.result.completeExceptionally(e));
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Teklif doğrulaması için gereken ihale alanlarının bellekteki kopyası
+     */
+    private static final class AuctionBidState {
+
+        private Auction auction;
+        private Long auctionId;
+        private UUID sellerPublicId;
+        private String status;
+        private LocalDateTime startTime;
+        private LocalDateTime endTime;
+        private BigDecimal currentPrice;
+        private BigDecimal minBidIncrement;
+        private UUID leaderPublicId;
+        private final Set<UUID> bidderPublicIds = new HashSet<>();
+        private final List<ProxyBid> proxies = new ArrayList<>();
+        private final Set<ProxyBid> dirtyProxies = new LinkedHashSet<>();
+
+        private static AuctionBidState from(Auction auction) {
+            AuctionBidState state = new AuctionBidState();
+            // Bid kayıtlarında referans olarak kullanılan detached kopya; fiyat alanı güncel tutulmaz
+            state.auction = auction;
+            state.auctionId = auction.getId();
+            state.sellerPublicId = auction.getSeller().getPublicId();
+            state.status = auction.getStatus();
+            state.startTime = auction.getStartTime();
+            state.endTime = auction.getEndTime();
+            state.currentPrice = auction.getCurrentPrice();
+            state.minBidIncrement = auction.getMinBidIncrement();
+            state.leaderPublicId = auction.getLeaderPublicId();
+            return state;
+        }
+
+        private BidValidationContext contextFor(PendingBid pending, LocalDateTime now) {
+            return BidValidationContext.builder()
+                    .auctionPublicId(auction.getPublicId())
+                    .sellerPublicId(sellerPublicId)
+                    .auctionStatus(status)
+                    .startTime(startTime)
+                    .endTime(endTime)
+                    .currentPrice(currentPrice)
+                    .minBidIncrement(minBidIncrement)
+                    .leaderPublicId(leaderPublicId)
+                    .bidderPublicId(pending.bidder.getPublicId())
+                    .funds(pending.funds)
+                    .amount(pending.amount)
+                    .now(now)
+                    .build();
+        }
+
+        private ProxyBid cancelProxy(UUID bidderPublicId) {
+            ProxyBid proxy = proxies.stream()
+                    .filter(existing -> existing.getBidder().getPublicId().equals(bidderPublicId))
+                    .findFirst()
+                    .orElse(null);
+            if (proxy == null) {
+                return null;
+            }
+            proxies.remove(proxy);
+            proxy.setStatus("CANCELED");
+            dirtyProxies.add(proxy);
+            return proxy;
+        }
+
+        private ProxyBid registerProxy(User bidder, BigDecimal maxAmount) {
+            ProxyBid proxy = proxies.stream()
+                    .filter(existing -> existing.getBidder().getPublicId().equals(bidder.getPublicId()))
+                    .findFirst()
+                    .orElse(null);
+
+            if (proxy == null) {
+                proxy = ProxyBid.builder()
+                        .auction(auction)
+                        .bidder(bidder)
+                        .status("ACTIVE")
+                        .build();
+                proxies.add(proxy);
+            }
+            proxy.setMaxAmount(maxAmount);
+            dirtyProxies.add(proxy);
+            return proxy;
+        }
+    }
+
+    private static final class PriceConflictException extends RuntimeException {
+
+        private PriceConflictException() {
+            super("Auction price advanced concurrently", null, false, false);
+        }
+    }
+
+    private static final class PlacedBid {
+
+        private final User bidder;
+        private final BigDecimal amount;
+        private final PendingBid origin;
+
+        private PlacedBid(User bidder, BigDecimal amount, PendingBid origin) {
+            this.bidder = bidder;
+            this.amount = amount;
+            this.origin = origin;
+        }
+    }
+
+    private static final class PendingBid {
+
+        private final User bidder;
+        private final BidderFunds funds;
+        private final BigDecimal amount;
+        private final boolean proxy;
+        private final boolean cancel;
+        // Doluysa bu kayıt bir teklif iptalidir
+        private final UUID canceledBidPublicId;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        // Proxy kaydı işlendiğinde bellekteki karşılığı
+        private ProxyBid proxyBid;
+
+        // Worker işlemeye ya da çağıran iptale karar verdiğinde bir kez set edilir
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private PendingBid(User bidder, BidderFunds funds, BigDecimal amount, boolean proxy) {
+            this(bidder, funds, amount, proxy, false);
+        }
+
+        private PendingBid(User bidder, BidderFunds funds, BigDecimal amount, boolean proxy, boolean cancel) {
+            this(bidder, funds, amount, proxy, cancel, null);
+        }
+
+        private PendingBid(UUID canceledBidPublicId) {
+            this(null, null, null, false, false, canceledBidPublicId);
+        }
+
+        private PendingBid(User bidder, BidderFunds funds, BigDecimal amount, boolean proxy, boolean cancel,
+                           UUID canceledBidPublicId) {
+            this.bidder = bidder;
+            this.funds = funds;
+            this.amount = amount;
+            this.proxy = proxy;
+            this.cancel = cancel;
+            this.canceledBidPublicId = canceledBidPublicId;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.tendering.service;
 
+import com.tendering.dto.common.CursorSlice;
 import com.tendering.dto.request.bid.BidCreateRequest;
 import com.tendering.dto.response.bid.BidResponse;
+import com.tendering.validator.bid.BidValidationResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -19,6 +21,10 @@ public interface BidService {
 
     Page<BidResponse> getBidsByBidder(UUID bidderPublicId, Pageable pageable);
 
+    CursorSlice<BidResponse> getBidsByAuctionCursor(UUID auctionPublicId, String sort, String cursor, int size);
+
+    CursorSlice<BidResponse> getBidsByBidderCursor(UUID bidderPublicId, String cursor, int size);
+
     List<BidResponse> getHighestBidsByAuction(UUID auctionPublicId, int limit);
 
     BigDecimal getHighestBidAmount(UUID auctionPublicId);
@@ -30,4 +36,6 @@ public interface BidService {
     BidResponse cancelBid(UUID bidPublicId);
 
     boolean canBid(UUID auctionPublicId, UUID bidderPublicId, BigDecimal amount);
+
+    BidValidationResult validateBid(UUID auctionPublicId, UUID bidderPublicId, BigDecimal amount);
 }
\ No newline at end of file
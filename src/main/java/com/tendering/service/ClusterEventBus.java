@@ -0,0 +1,286 @@
+package com.tendering.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tendering.dto.response.auction.ChatMessageResponse;
+import com.tendering.dto.response.bid.BidResponse;
+import com.tendering.event.AuctionChatMessageEvent;
+import com.tendering.event.AuctionClosedEvent;
+import com.tendering.event.AuctionEndTimeExtendedEvent;
+import com.tendering.event.AuctionsActivatedEvent;
+import com.tendering.event.BidAcceptedEvent;
+import com.tendering.event.BidCanceledEvent;
+import com.tendering.event.ClusterEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Alan olaylarını Redis pub/sub üzerinden diğer node'lara taşır.
+ * Yerel olaylar commit sonrası kuyruğa alınır ve tek bir yayıncı iş parçacığı tarafından toplu olarak,
+ * konumsal JSON dizileri halinde gönderilir. Gelen olaylar remote=true ile yerel dinleyicilere yeniden yayınlanır.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterEventBus {
+
+    private static final String BID_ACCEPTED = "BA";
+    private static final String BID_CANCELED = "BC";
+    private static final String END_TIME_EXTENDED = "EX";
+    private static final String AUCTION_CLOSED = "CL";
+    private static final String AUCTIONS_ACTIVATED = "AC";
+    private static final String CHAT_MESSAGE = "CM";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${cluster.events.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cluster.events.channel:tendering:events}")
+    private String channel;
+
+    @Value("${cluster.events.batch-size:100}")
+    private int batchSize;
+
+    @Value("${cluster.events.linger-ms:5}")
+    private long lingerMs;
+
+    @Value("${cluster.events.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private BlockingQueue<ClusterEvent> outbox;
+    private Thread publisher;
+    private volatile boolean running;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        outbox = new LinkedBlockingQueue<>(queueCapacity);
+        listenerContainer.addMessageListener((message, pattern) -> onMessage(message), new ChannelTopic(channel));
+        running = true;
+        publisher = new Thread(this::publishLoop, "cluster-event-publisher");
+        publisher.setDaemon(true);
+        publisher.start();
+        log.info("Cluster event bus started on channel {} as node {}", channel, nodeId);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        if (publisher != null) {
+            publisher.interrupt();
+        }
+    }
+
+    /**
+     * Yerel olayları commit sonrası kuyruğa alır; başka node'dan gelenler tekrar yayınlanmaz
+     */
+    @TransactionalEventListener(fallbackExecution = true, condition = "!#event.remote")
+    public void onLocalEvent(ClusterEvent event) {
+        if (!running) {
+            return;
+        }
+        if (!outbox.offer(event)) {
+            // Redis yavaşsa teklif akışını bekletme; diğer node'lar uzlaştırma ve yoklama ile yetişir
+            log.warn("Cluster event outbox full, dropping {}", event.getClass().getSimpleName());
+        }
+    }
+
+    private void publishLoop() {
+        List<ClusterEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(outbox.take());
+                if (lingerMs > 0) {
+                    Thread.sleep(lingerMs);
+                }
+                outbox.drainTo(batch, batchSize - 1);
+                publish(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void publish(List<ClusterEvent> batch) {
+        List<List<Object>> encoded = new ArrayList<>(batch.size());
+        for (ClusterEvent event : batch) {
+            List<Object> fields = encode(event);
+            if (fields != null) {
+                encoded.add(fields);
+            }
+        }
+        if (encoded.isEmpty()) {
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(Map.of("n", nodeId, "e", encoded));
+            redisTemplate.convertAndSend(channel, payload);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Cluster event batch of {} could not be published: {}", encoded.size(), e.getMessage());
+        }
+    }
+
+    private void onMessage(Message message) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.warn("Malformed cluster event message ignored: {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(root.path("n").asText())) {
+            return;
+        }
+        for (JsonNode fields : root.path("e")) {
+            try {
+                Object event = decode(fields);
+                if (event != null) {
+                    eventPublisher.publishEvent(event);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Cluster event could not be delivered locally: {}", fields, e);
+            }
+        }
+    }
+
+    private List<Object> encode(ClusterEvent event) {
+        if (event instanceof BidAcceptedEvent accepted) {
+            BidResponse bid = accepted.getBid();
+            return Arrays.asList(BID_ACCEPTED, accepted.getAuctionPublicId(), bid.getPublicId(), bid.getAuctionTitle(),
+                    bid.getBidderPublicId(), bid.getBidderName(), text(bid.getAmount()), bid.getStatus(),
+                    text(bid.getCreatedAt()), accepted.getPreviousLeaderPublicId());
+        }
+        if (event instanceof BidCanceledEvent canceled) {
+            return Arrays.asList(BID_CANCELED, canceled.getAuctionPublicId(), canceled.getBidPublicId());
+        }
+        if (event instanceof AuctionEndTimeExtendedEvent extended) {
+            return Arrays.asList(END_TIME_EXTENDED, extended.getAuctionPublicId(),
+                    text(extended.getPreviousEndTime()), text(extended.getEndTime()));
+        }
+        if (event instanceof AuctionClosedEvent closed) {
+            return Arrays.asList(AUCTION_CLOSED, closed.getAuctionPublicId(), closed.isSold(),
+                    closed.getWinningBidPublicId(), closed.getWinnerPublicId(), text(closed.getFinalPrice()));
+        }
+        if (event instanceof AuctionsActivatedEvent activated) {
+            return Arrays.asList(AUCTIONS_ACTIVATED, activated.getActivatedCount(), activated.getAuctionPublicIds());
+        }
+        if (event instanceof AuctionChatMessageEvent chat) {
+            ChatMessageResponse message = chat.getMessage();
+            return Arrays.asList(CHAT_MESSAGE, chat.getAuctionPublicId(), message.getPublicId(),
+                    message.getSenderPublicId(), message.getSenderName(), message.getContent(),
+                    text(message.getCreatedAt()));
+        }
+        log.debug("No cluster encoding for {}", event.getClass().getSimpleName());
+        return null;
+    }
+
+    private Object decode(JsonNode fields) {
+        String type = fields.path(0).asText();
+        switch (type) {
+            case BID_ACCEPTED -> {
+                BidResponse bid = BidResponse.builder()
+                        .publicId(uuid(fields.path(2)))
+                        .auctionPublicId(uuid(fields.path(1)))
+                        .auctionTitle(string(fields.path(3)))
+                        .bidderPublicId(uuid(fields.path(4)))
+                        .bidderName(string(fields.path(5)))
+                        .amount(decimal(fields.path(6)))
+                        .status(string(fields.path(7)))
+                        .createdAt(time(fields.path(8)))
+                        .build();
+                return new BidAcceptedEvent(bid.getAuctionPublicId(), bid, uuid(fields.path(9)), true);
+            }
+            case BID_CANCELED -> {
+                return new BidCanceledEvent(uuid(fields.path(1)), uuid(fields.path(2)), true);
+            }
+            case END_TIME_EXTENDED -> {
+                return new AuctionEndTimeExtendedEvent(uuid(fields.path(1)), time(fields.path(2)), time(fields.path(3)), true);
+            }
+            case AUCTION_CLOSED -> {
+                return new AuctionClosedEvent(uuid(fields.path(1)), fields.path(2).asBoolean(), uuid(fields.path(3)),
+                        uuid(fields.path(4)), decimal(fields.path(5)), true);
+            }
+            case AUCTIONS_ACTIVATED -> {
+                List<UUID> ids = new ArrayList<>();
+                fields.path(2).forEach(id -> ids.add(UUID.fromString(id.asText())));
+                return new AuctionsActivatedEvent(fields.path(1).asInt(), ids, true);
+            }
+            case CHAT_MESSAGE -> {
+                ChatMessageResponse message = ChatMessageResponse.builder()
+                        .publicId(uuid(fields.path(2)))
+                        .auctionPublicId(uuid(fields.path(1)))
+                        .senderPublicId(uuid(fields.path(3)))
+                        .senderName(string(fields.path(4)))
+                        .content(string(fields.path(5)))
+                        .createdAt(time(fields.path(6)))
+                        .build();
+                return new AuctionChatMessageEvent(message.getAuctionPublicId(), message, true);
+            }
+            default -> {
+                log.debug("Unknown cluster event type ignored: {}", type);
+                return null;
+            }
+        }
+    }
+
+    // Tutar ve zamanlar metin olarak taşınır; sayısal JSON ondalık hassasiyetini kaybedebilir
+    private String text(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value == null ? null : value.toString();
+    }
+
+    private String string(JsonNode node) {
+        return node.isNull() || node.isMissingNode() ? null : node.asText();
+    }
+
+    private UUID uuid(JsonNode node) {
+        String value = string(node);
+        return value == null ? null : UUID.fromString(value);
+    }
+
+    private BigDecimal decimal(JsonNode node) {
+        String value = string(node);
+        return value == null ? null : new BigDecimal(value);
+    }
+
+    private LocalDateTime time(JsonNode node) {
+        String value = string(node);
+        return value == null ? null : LocalDateTime.parse(value);
+    }
+}
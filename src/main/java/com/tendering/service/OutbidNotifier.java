@@ -0,0 +1,274 @@
+package com.tendering.service;
+
+import com.tendering.dto.response.bid.BidResponse;
+import com.tendering.event.AuctionClosedEvent;
+import com.tendering.event.BidAcceptedEvent;
+import com.tendering.model.User;
+import com.tendering.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Teklifi geçilen kullanıcılara e-posta bildirimi.
+ * Teklif kabul olayları yalnızca bellekteki bekleyen bildirimleri günceller; aynı (kullanıcı, ihale) için
+ * gelen olaylar birleştirilir ve kullanıcı tekrar lider olursa bildirim iptal edilir. Sakinleşen bildirimler
+ * kullanıcı başına tek e-postada toplanır ve ayrı gönderici havuzunda, yeniden denemeyle toplu gönderilir.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutbidNotifier {
+
+    private final JavaMailSender mailSender;
+    private final UserRepository userRepository;
+
+    @Value("${bid.outbid-notifier.enabled:true}")
+    private boolean enabled;
+
+    @Value("${spring.mail.username:}")
+    private String from;
+
+    @Value("${bid.outbid-notifier.debounce-ms:30000}")
+    private long debounceMs;
+
+    @Value("${bid.outbid-notifier.max-delay-ms:120000}")
+    private long maxDelayMs;
+
+    @Value("${bid.outbid-notifier.max-pending:50000}")
+    private int maxPending;
+
+    @Value("${bid.outbid-notifier.mail-batch-size:50}")
+    private int mailBatchSize;
+
+    @Value("${bid.outbid-notifier.sender-threads:2}")
+    private int senderThreads;
+
+    @Value("${bid.outbid-notifier.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${bid.outbid-notifier.initial-backoff-ms:2000}")
+    private long initialBackoffMs;
+
+    @Value("${bid.outbid-notifier.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger threadCounter = new AtomicInteger();
+    private ScheduledThreadPoolExecutor senders;
+
+    @PostConstruct
+    void init() {
+        senders = new ScheduledThreadPoolExecutor(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "outbid-mail-sender-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Kapanışta bekleyen yeniden denemeler çalıştırılmaz, kaybolanlar loglanır
+        senders.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Bekleyen bildirimleri beklemeden gönderir ve gönderimlerin bitmesini sınırlı süre bekler;
+     * gönderilemeyenler loglanır
+     */
+    @PreDestroy
+    void shutdown() {
+        try {
+            drain(true);
+        } catch (RuntimeException e) {
+            log.warn("Outbid notifications could not be flushed on shutdown: {}", e.getMessage());
+        }
+        if (!pending.isEmpty()) {
+            log.warn("Dropping {} pending outbid notifications on shutdown", pending.size());
+        }
+        senders.shutdown();
+        try {
+            if (!senders.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("Outbid mail senders did not finish in {} ms, dropping {} queued sends",
+                        shutdownTimeoutMs, senders.shutdownNow().size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while flushing outbid mails, dropping {} queued sends", senders.shutdownNow().size());
+        }
+    }
+
+    /**
+     * Lider değişimi her node'da bekleyen bildirimleri günceller; yeni bildirimi yalnızca teklifi kabul eden node
+     * kuyruğa alır, böylece kullanıcı hangi node'da beklerse beklesin tekrar lider olunca bildirim iptal edilir
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidAccepted(BidAcceptedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        BidResponse bid = event.getBid();
+        // Yeni lider için bekleyen "geçildiniz" bildirimi artık geçersiz
+        pending.remove(new Key(bid.getBidderPublicId(), event.getAuctionPublicId()));
+        if (event.isRemote()) {
+            return;
+        }
+
+        UUID outbid = event.getPreviousLeaderPublicId();
+        if (outbid == null || outbid.equals(bid.getBidderPublicId())) {
+            return;
+        }
+        Key key = new Key(outbid, event.getAuctionPublicId());
+        if (pending.size() >= maxPending && !pending.containsKey(key)) {
+            log.warn("Outbid notification backlog full, skipping notification for auction: {}", event.getAuctionPublicId());
+            return;
+        }
+        long now = System.currentTimeMillis();
+        pending.merge(key,
+                new Pending(bid.getAuctionTitle(), bid.getAmount(), now, now),
+                (current, latest) -> new Pending(latest.auctionTitle(), latest.amount(), current.firstAt(), now));
+    }
+
+    /**
+     * Kapanan ihale için bekleyen bildirimler gönderilmez; sonuç ayrıca bildirilir
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        pending.keySet().removeIf(key -> key.auctionPublicId().equals(event.getAuctionPublicId()));
+    }
+
+    /**
+     * Sakinleşen (veya en fazla bekleme süresini aşan) bildirimleri kullanıcı başına toplayıp gönderir
+     */
+    @Scheduled(fixedDelayString = "${bid.outbid-notifier.flush-interval-ms:5000}")
+    public void flush() {
+        drain(false);
+    }
+
+    private void drain(boolean force) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Map<UUID, List<Map.Entry<UUID, Pending>>> byUser = new LinkedHashMap<>();
+        for (Map.Entry<Key, Pending> entry : pending.entrySet()) {
+            Pending value = entry.getValue();
+            if (!force && now - value.lastAt() < debounceMs && now - value.firstAt() < maxDelayMs) {
+                continue;
+            }
+            // Bu arada güncellendiyse bir sonraki turda gönderilir
+            if (pending.remove(entry.getKey(), value)) {
+                byUser.computeIfAbsent(entry.getKey().userPublicId(), id -> new ArrayList<>())
+                        .add(Map.entry(entry.getKey().auctionPublicId(), value));
+            }
+        }
+        if (byUser.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, User> users;
+        try {
+            users = userRepository.findByPublicIdIn(byUser.keySet()).stream()
+                    .collect(Collectors.toMap(User::getPublicId, user -> user));
+        } catch (DataAccessException e) {
+            log.warn("Outbid recipients could not be loaded, dropping {} notifications: {}", byUser.size(), e.getMessage());
+            return;
+        }
+
+        List<SimpleMailMessage> messages = new ArrayList<>(byUser.size());
+        byUser.forEach((userPublicId, auctions) -> {
+            User user = users.get(userPublicId);
+            if (user != null && user.getEmail() != null) {
+                messages.add(compose(user, auctions));
+            }
+        });
+        for (int i = 0; i < messages.size(); i += mailBatchSize) {
+            List<SimpleMailMessage> batch = messages.subList(i, Math.min(i + mailBatchSize, messages.size()));
+            submit(new ArrayList<>(batch), 1);
+        }
+    }
+
+    private SimpleMailMessage compose(User user, List<Map.Entry<UUID, Pending>> auctions) {
+        auctions.sort(Comparator.comparing(entry -> entry.getValue().lastAt()));
+        StringBuilder text = new StringBuilder()
+                .append("Merhaba ").append(user.getName()).append(",\n\n")
+                .append("Aşağıdaki ihalelerde teklifiniz geçildi:\n\n");
+        for (Map.Entry<UUID, Pending> entry : auctions) {
+            text.append("- ").append(entry.getValue().auctionTitle())
+                    .append(": güncel teklif ").append(entry.getValue().amount().toPlainString()).append(" TL\n");
+        }
+        text.append("\nTekrar teklif vermek için ihale sayfasını ziyaret edebilirsiniz.\n");
+
+        SimpleMailMessage message = new SimpleMailMessage();
+        if (!from.isBlank()) {
+            message.setFrom(from);
+        }
+        message.setTo(user.getEmail());
+        message.setSubject(auctions.size() == 1
+                ? "Teklifiniz geçildi: " + auctions.get(0).getValue().auctionTitle()
+                : auctions.size() + " ihalede teklifiniz geçildi");
+        message.setText(text.toString());
+        return message;
+    }
+
+    /**
+     * Parçayı tek SMTP oturumunda gönderir; başarısız olanlar üstel bekleme ile yeniden denenir
+     */
+    private void submit(List<SimpleMailMessage> batch, int attempt) {
+        long delay = attempt == 1 ? 0 : initialBackoffMs << Math.min(attempt - 2, 10);
+        try {
+            senders.schedule(() -> send(batch, attempt), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("Outbid mail senders stopped, dropping {} messages", batch.size());
+        }
+    }
+
+    private void send(List<SimpleMailMessage> batch, int attempt) {
+        List<SimpleMailMessage> failed;
+        try {
+            mailSender.send(batch.toArray(SimpleMailMessage[]::new));
+            return;
+        } catch (MailSendException e) {
+            // Yalnızca reddedilen mesajları tekrar dene; bağlantı hatasında anahtar yoksa hepsi tekrar denenir
+            failed = e.getFailedMessages().isEmpty() ? batch : batch.stream()
+                    .filter(e.getFailedMessages()::containsKey)
+                    .collect(Collectors.toList());
+            log.warn("Outbid mail batch attempt {} failed for {} of {} messages: {}",
+                    attempt, failed.size(), batch.size(), e.getMessage());
+        } catch (MailException e) {
+            failed = batch;
+            log.warn("Outbid mail batch attempt {} failed: {}", attempt, e.getMessage());
+        }
+        if (attempt >= maxAttempts) {
+            log.error("Giving up on {} outbid mails after {} attempts", failed.size(), attempt);
+            return;
+        }
+        submit(failed, attempt + 1);
+    }
+
+    private record Key(UUID userPublicId, UUID auctionPublicId) {
+    }
+
+    private record Pending(String auctionTitle, BigDecimal amount, long firstAt, long lastAt) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.tendering.service;
+
+import com.tendering.dto.request.bid.ProxyBidRequest;
+import com.tendering.dto.response.bid.ProxyBidResponse;
+import com.tendering.exceptionHandlers.ResourceNotFoundException;
+import com.tendering.model.Auction;
+import com.tendering.model.ProxyBid;
+import com.tendering.repository.BidRepository;
+import com.tendering.repository.ProxyBidRepository;
+import com.tendering.validator.bid.BidValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProxyBidService {
+
+    private final ProxyBidRepository proxyBidRepository;
+    private final BidRepository bidRepository;
+    private final BidSequencer bidSequencer;
+    private final BidValidator bidValidator;
+    private final BidRateLimiter bidRateLimiter;
+
+    /**
+     * Maksimum teklifi kaydeder; rakip proxy'ler ihalenin teklif kuyruğunda otomatik çözülür
+     */
+    public ProxyBidResponse placeProxyBid(ProxyBidRequest request, UUID bidderPublicId) {
+        log.debug("Proxy teklif kaydediliyor - İhale: {}, Teklif veren: {}, Maksimum: {}",
+                request.getAuctionPublicId(), bidderPublicId, request.getMaxAmount());
+
+        bidRateLimiter.admit(bidderPublicId, request.getAuctionPublicId());
+        BidValidator.ResolvedBidder bidder = bidValidator.resolveBidder(bidderPublicId);
+
+        return bidSequencer.submitProxy(request.getAuctionPublicId(), bidder.user(), bidder.funds(), request.getMaxAmount());
+    }
+
+    @Transactional(readOnly = true)
+    public ProxyBidResponse getProxyBid(UUID auctionPublicId, UUID bidderPublicId) {
+        ProxyBid proxyBid = proxyBidRepository.findByAuctionPublicIdAndBidderPublicId(auctionPublicId, bidderPublicId)
+                .orElseThrow(() -> new ResourceNotFoundException("Proxy teklif bulunamadı: " + auctionPublicId));
+
+        Auction auction = proxyBid.getAuction();
+        boolean leading = bidRepository.findLeaderPublicIds(auction.getId(), PageRequest.of(0, 1))
+                .stream()
+                .findFirst()
+                .map(bidderPublicId::equals)
+                .orElse(false);
+
+        return ProxyBidResponse.fromEntity(proxyBid, auction.getCurrentPrice(), leading);
+    }
+
+    /**
+     * Aktif proxy teklifi iptal eder; daha önce verilmiş teklifler geçerliliğini korur.
+     * İptal ihalenin teklif kuyruğunda uygulanır, böylece işlenmekte olan batch iptal edilen proxy'yi kullanamaz.
+     */
+    public ProxyBidResponse cancelProxyBid(UUID auctionPublicId, UUID bidderPublicId) {
+        ProxyBid proxyBid = proxyBidRepository.findByAuctionPublicIdAndBidderPublicId(auctionPublicId, bidderPublicId)
+                .orElseThrow(() -> new ResourceNotFoundException("Proxy teklif bulunamadı: " + auctionPublicId));
+
+        if (!"ACTIVE".equals(proxyBid.getStatus())) {
+            throw new IllegalStateException("Sadece aktif proxy teklifler iptal edilebilir");
+        }
+
+        BidValidator.ResolvedBidder bidder = bidValidator.resolveBidder(bidderPublicId);
+        ProxyBidResponse response = bidSequencer.cancelProxy(auctionPublicId, bidder.user());
+
+        log.info("Proxy teklif iptal edildi - İhale: {}, Teklif veren: {}", auctionPublicId, bidderPublicId);
+        return response;
+    }
+}
@@ -0,0 +1,129 @@
+package com.tendering.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * İhale görüntülenmelerini bellekte biriktirip periyodik olarak toplu yazar (write-behind).
+ * Detay isteği satır kilitlemez ve yazma yapmaz; her flush'ta ihale başına birikmiş fark
+ * tek bir batch UPDATE ile view_count'a eklenir. Kapanışta son bir flush yapılır.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountAggregator {
+
+    private static final String INCREMENT_SQL =
+            "UPDATE auctions SET view_count = COALESCE(view_count, 0) + ? WHERE public_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${auction.view-count.batch-size:500}")
+    private int batchSize;
+
+    private final Map<UUID, LongAdder> pending = new ConcurrentHashMap<>();
+    // Son flush'ta da boş olan sayaçlar bir sonraki turda haritadan atılır
+    private final Map<UUID, Boolean> idle = new ConcurrentHashMap<>();
+
+    public void record(UUID auctionPublicId) {
+        LongAdder adder = pending.get(auctionPublicId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(auctionPublicId, key -> new LongAdder());
+        }
+        adder.increment();
+        if (pending.get(auctionPublicId) != adder) {
+            // Sayaç bu arada boşta diye atıldı; evict'in göremediği artış güncel sayaca taşınır
+            long stranded = adder.sumThenReset();
+            if (stranded != 0) {
+                restore(auctionPublicId, stranded);
+            }
+        }
+    }
+
+    /**
+     * Henüz veritabanına yazılmamış görüntülenme sayısı
+     */
+    public long pendingFor(UUID auctionPublicId) {
+        LongAdder adder = pending.get(auctionPublicId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${auction.view-count.flush-interval-ms:5000}",
+            initialDelayString = "${auction.view-count.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        int written = flush();
+        log.info("Final view count flush wrote {} auction(s)", written);
+    }
+
+    /**
+     * Biriken farkları yazar; hata durumunda farklar sayaçlara geri eklenir
+     *
+     * @return güncellenen ihale sayısı
+     */
+    public synchronized int flush() {
+        List<Object[]> deltas = new ArrayList<>();
+        for (Map.Entry<UUID, LongAdder> entry : pending.entrySet()) {
+            UUID auctionPublicId = entry.getKey();
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                idle.remove(auctionPublicId);
+                deltas.add(new Object[]{delta, auctionPublicId});
+            } else if (idle.putIfAbsent(auctionPublicId, Boolean.TRUE) != null) {
+                evict(auctionPublicId, entry.getValue());
+            }
+        }
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        int written = 0;
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<Object[]> chunk = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+            try {
+                // Parça tek transaction'da yazılır; yarıda kalan hata geri alınır ve farklar iki kez eklenmez
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INCREMENT_SQL, chunk));
+                written += chunk.size();
+            } catch (RuntimeException e) {
+                log.warn("View count flush failed for {} auction(s), deltas kept for retry: {}",
+                        chunk.size(), e.getMessage());
+                chunk.forEach(row -> restore((UUID) row[1], (Long) row[0]));
+            }
+        }
+        log.debug("Flushed view counts for {} auction(s)", written);
+        return written;
+    }
+
+    private void evict(UUID auctionPublicId, LongAdder adder) {
+        idle.remove(auctionPublicId);
+        if (pending.remove(auctionPublicId, adder)) {
+            // Kaldırma sırasında sayaca yetişen artışlar kaybolmasın
+            long late = adder.sumThenReset();
+            if (late != 0) {
+                restore(auctionPublicId, late);
+            }
+        }
+    }
+
+    private void restore(UUID auctionPublicId, long delta) {
+        pending.computeIfAbsent(auctionPublicId, key -> new LongAdder()).add(delta);
+    }
+}
@@ -1,25 +1,47 @@
 package com.tendering.service.impl;
 
+import com.tendering.dto.common.CursorSlice;
 import com.tendering.dto.request.auction.AuctionCreateRequest;
 import com.tendering.dto.request.auction.AuctionUpdateRequest;
+import com.tendering.dto.response.auction.AuctionBatchResponse;
 import com.tendering.dto.response.auction.AuctionResponse;
 import com.tendering.exceptionHandlers.ResourceNotFoundException;
 import com.tendering.model.Auction;
 import com.tendering.model.User;
 import com.tendering.repository.AuctionRepository;
 import com.tendering.repository.UserRepository;
+import com.tendering.service.AuctionActivationScheduler;
 import com.tendering.service.AuctionCrudService;
+import com.tendering.service.AuctionDeadlineTracker;
+import com.tendering.service.AuctionEndingSoonIndex;
+import com.tendering.service.AuctionListCache;
+import com.tendering.service.BidSequencer;
+import com.tendering.service.ViewCountAggregator;
 import com.tendering.util.AuctionValidationUtil;
+import com.tendering.util.CursorCodec;
+import com.tendering.util.LruTtlCache;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,9 +50,33 @@ import java.util.stream.Collectors;
 @Transactional
 public class AuctionCrudServiceImpl implements AuctionCrudService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int ENDING_SOON_LOAD_CHUNK = 500;
+    // İlk sayfa için imleç yerine kullanılan sınır değer (en yeniden eskiye akışlar)
+    private static final LocalDateTime NEWEST_FIRST_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     private final AuctionRepository auctionRepository;
     private final UserRepository userRepository;
     private final AuctionValidationUtil auctionValidationUtil;
+    private final BidSequencer bidSequencer;
+    private final AuctionDeadlineTracker deadlineTracker;
+    private final AuctionActivationScheduler activationScheduler;
+    private final ViewCountAggregator viewCountAggregator;
+    private final AuctionListCache auctionListCache;
+    private final AuctionEndingSoonIndex endingSoonIndex;
+
+    @Value("${auction.feed.count-ttl-seconds:30}")
+    private long feedCountTtlSeconds;
+
+    @Value("${auction.feed.count-cache-size:1000}")
+    private int feedCountCacheSize;
+
+    private LruTtlCache<String, Long> feedCounts;
+
+    @PostConstruct
+    void init() {
+        feedCounts = new LruTtlCache<>(feedCountCacheSize, Duration.ofSeconds(feedCountTtlSeconds));
+    }
 
     @Override
     public AuctionResponse createAuction(AuctionCreateRequest request, UUID sellerPublicId) {
@@ -64,6 +110,7 @@ public class AuctionCrudServiceImpl implements AuctionCrudService {
                 .build();
 
         Auction savedAuction = auctionRepository.save(auction);
+        activationScheduler.register(savedAuction.getPublicId(), savedAuction.getStartTime(), savedAuction.getEndTime());
         log.debug("Auction created successfully with ID: {}", savedAuction.getPublicId());
 
         return AuctionResponse.fromEntity(savedAuction);
@@ -91,7 +138,7 @@ public class AuctionCrudServiceImpl implements AuctionCrudService {
         if (request.getStartPrice() != null) {
             auction.setStartPrice(request.getStartPrice());
             // Update current price if no bids yet
-            if (auction.getBids().isEmpty()) {
+            if (auction.getBidCount() == 0) {
                 auction.setCurrentPrice(request.getStartPrice());
             }
         }
@@ -132,6 +179,8 @@ public class AuctionCrudServiceImpl implements AuctionCrudService {
         }
 
         Auction updatedAuction = auctionRepository.save(auction);
+        bidSequencer.invalidate(publicId);
+        trackDeadline(updatedAuction);
         log.debug("Auction updated successfully: {}", publicId);
 
         return AuctionResponse.fromEntity(updatedAuction);
@@ -142,10 +191,37 @@ public class AuctionCrudServiceImpl implements AuctionCrudService {
     public AuctionResponse getAuctionById(UUID publicId) {
         log.debug("Getting auction by ID: {}", publicId);
 
-        Auction auction = auctionRepository.findByPublicId(publicId)
+        Auction auction = auctionRepository.findWithSellerByPublicId(publicId)
                 .orElseThrow(() -> new ResourceNotFoundException("İhale bulunamadı: " + publicId));
 
-        return AuctionResponse.fromEntity(auction);
+        return withPendingViews(AuctionResponse.fromEntity(auction));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AuctionBatchResponse getAuctionsByIds(List<UUID> publicIds) {
+        log.debug("Getting {} auctions by ID", publicIds.size());
+
+        // Tekrarlanan kimlikler tek kez sorgulanır, sonuç istek sırasını korur
+        Set<UUID> requested = new LinkedHashSet<>(publicIds);
+        Map<UUID, AuctionResponse> found = auctionRepository.findViewsByPublicIds(requested).stream()
+                .map(AuctionResponse::fromView)
+                .collect(Collectors.toMap(AuctionResponse::getPublicId, response -> response));
+
+        List<AuctionResponse> auctions = new ArrayList<>(found.size());
+        List<UUID> notFound = new ArrayList<>();
+        for (UUID publicId : requested) {
+            AuctionResponse response = found.get(publicId);
+            if (response != null) {
+                auctions.add(withPendingViews(response));
+            } else {
+                notFound.add(publicId);
+            }
+        }
+        return AuctionBatchResponse.builder()
+                .auctions(auctions)
+                .notFound(notFound)
+                .build();
     }
 
     @Override
@@ -153,8 +229,7 @@ public class AuctionCrudServiceImpl implements AuctionCrudService {
     public Page<AuctionResponse> getAllAuctions(Pageable pageable) {
         log.debug("Getting all auctions with pagination: {}", pageable);
 
-        Page<Auction> auctionPage = auctionRepository.findAll(pageable);
-        return auctionPage.map(AuctionResponse::fromEntity);
+        return auctionRepository.findAllViews(pageable).map(AuctionResponse::fromView);
     }
 
     @Override
@@ -162,8 +237,7 @@ public class AuctionCrudServiceImpl implements AuctionCrudService {
     public Page<AuctionResponse> getAuctionsByStatus(String status, Pageable pageable) {
         log.debug("Getting auctions by status: {}", status);
 
-        Page<Auction> auctionPage = auctionRepository.findByStatus(status, pageable);
-        return auctionPage.map(AuctionResponse::fromEntity);
+        return auctionRepository.findViewsByStatus(status, pageable).map(AuctionResponse::fromView);
     }
 
     @Override
@@ -172,8 +246,7 @@ public class AuctionCrudServiceImpl implements AuctionCrudService {
         log.debug("Getting auctions by type: {}", type);
 
         Auction.AuctionType auctionType = Auction.AuctionType.valueOf(type.toUpperCase());
-        Page<Auction> auctionPage = auctionRepository.findByType(auctionType, pageable);
-        return auctionPage.map(AuctionResponse::fromEntity);
+        return auctionRepository.findViewsByType(auctionType, pageable).map(AuctionResponse::fromView);
     }
 
     @Override
@@ -184,8 +257,7 @@ public class AuctionCrudServiceImpl implements AuctionCrudService {
         User seller = userRepository.findByPublicId(sellerPublicId)
                 .orElseThrow(() -> new ResourceNotFoundException("Satıcı bulunamadı: " + sellerPublicId));
 
-        Page<Auction> auctionPage = auctionRepository.findBySeller(seller, pageable);
-        return auctionPage.map(AuctionResponse::fromEntity);
+        return auctionRepository.findViewsBySeller(seller, pageable).map(AuctionResponse::fromView);
     }
 
     @Override
@@ -194,8 +266,7 @@ public class AuctionCrudServiceImpl implements AuctionCrudService {
         log.debug("Getting active auctions");
 
         LocalDateTime now = LocalDateTime.now();
-        Page<Auction> auctionPage = auctionRepository.findActiveAuctions(now, pageable);
-        return auctionPage.map(AuctionResponse::fromEntity);
+        return auctionRepository.findActiveViews(now, pageable).map(AuctionResponse::fromView);
     }
 
     @Override
@@ -205,8 +276,130 @@ public class AuctionCrudServiceImpl implements AuctionCrudService {
 
         Auction.AuctionType auctionType = Auction.AuctionType.valueOf(type.toUpperCase());
         LocalDateTime now = LocalDateTime.now();
-        Page<Auction> auctionPage = auctionRepository.findActiveAuctionsByType(auctionType, now, pageable);
-        return auctionPage.map(AuctionResponse::fromEntity);
+        return auctionRepository.findActiveViewsByType(auctionType, now, pageable).map(AuctionResponse::fromView);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<AuctionResponse> getAllAuctionsCursor(String cursor, int size, boolean includeTotal) {
+        log.debug("Getting auction feed after cursor: {}", cursor);
+
+        return newestFirst(cursor, size, auctionRepository::findViewFeed,
+                includeTotal ? "all" : null, auctionRepository::count);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<AuctionResponse> getAuctionsByStatusCursor(String status, String cursor, int size, boolean includeTotal) {
+        log.debug("Getting auction feed by status: {} after cursor: {}", status, cursor);
+
+        return newestFirst(cursor, size,
+                (createdAt, id, pageable) -> auctionRepository.findViewFeedByStatus(status, createdAt, id, pageable),
+                includeTotal ? "status:" + status : null, () -> auctionRepository.countByStatus(status));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<AuctionResponse> getAuctionsByTypeCursor(String type, String cursor, int size, boolean includeTotal) {
+        log.debug("Getting auction feed by type: {} after cursor: {}", type, cursor);
+
+        Auction.AuctionType auctionType = Auction.AuctionType.valueOf(type.toUpperCase());
+        return newestFirst(cursor, size,
+                (createdAt, id, pageable) -> auctionRepository.findViewFeedByType(auctionType, createdAt, id, pageable),
+                includeTotal ? "type:" + auctionType : null, () -> auctionRepository.countByType(auctionType));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<AuctionResponse> getAuctionsBySellerCursor(UUID sellerPublicId, String cursor, int size, boolean includeTotal) {
+        log.debug("Getting auction feed by seller: {} after cursor: {}", sellerPublicId, cursor);
+
+        User seller = userRepository.findByPublicId(sellerPublicId)
+                .orElseThrow(() -> new ResourceNotFoundException("Satıcı bulunamadı: " + sellerPublicId));
+
+        return newestFirst(cursor, size,
+                (createdAt, id, pageable) -> auctionRepository.findViewFeedBySeller(seller, createdAt, id, pageable),
+                includeTotal ? "seller:" + sellerPublicId : null, () -> auctionRepository.countBySeller(seller));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<AuctionResponse> getActiveAuctionsCursor(String cursor, int size, boolean includeTotal) {
+        log.debug("Getting active auction feed after cursor: {}", cursor);
+
+        LocalDateTime now = LocalDateTime.now();
+        return endingFirst(cursor, size, now,
+                (endTime, id, pageable) -> auctionRepository.findActiveViewFeed(now, endTime, id, pageable),
+                includeTotal ? "active" : null, () -> auctionRepository.countActive(now));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<AuctionResponse> getActiveAuctionsByTypeCursor(String type, String cursor, int size, boolean includeTotal) {
+        log.debug("Getting active auction feed by type: {} after cursor: {}", type, cursor);
+
+        Auction.AuctionType auctionType = Auction.AuctionType.valueOf(type.toUpperCase());
+        LocalDateTime now = LocalDateTime.now();
+        return endingFirst(cursor, size, now,
+                (endTime, id, pageable) -> auctionRepository.findActiveViewFeedByType(auctionType, now, endTime, id, pageable),
+                includeTotal ? "active-type:" + auctionType : null, () -> auctionRepository.countActiveByType(auctionType, now));
+    }
+
+    /**
+     * (createdAt, id) azalan sırada akış; countKey null ise toplam sayı hesaplanmaz
+     */
+    private CursorSlice<AuctionResponse> newestFirst(String cursor, int size, FeedQuery query,
+                                                     String countKey, LongSupplier counter) {
+        LocalDateTime createdAt = NEWEST_FIRST_START;
+        long id = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            CursorCodec.Cursor position = CursorCodec.decode(cursor, 2);
+            createdAt = position.timestamp(0);
+            id = position.longValue(1);
+        }
+        Slice<AuctionRepository.ListView> slice = query.fetch(createdAt, id, PageRequest.of(0, clampPageSize(size)));
+        return withTotal(CursorSlice.of(slice, AuctionResponse::fromView,
+                view -> CursorCodec.encode(view.getCreatedAt(), view.getId())), countKey, counter);
+    }
+
+    /**
+     * (endTime, id) artan sırada akış; ilk sayfa şu andan başlar
+     */
+    private CursorSlice<AuctionResponse> endingFirst(String cursor, int size, LocalDateTime now, FeedQuery query,
+                                                     String countKey, LongSupplier counter) {
+        LocalDateTime endTime = now;
+        long id = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            CursorCodec.Cursor position = CursorCodec.decode(cursor, 2);
+            endTime = position.timestamp(0);
+            id = position.longValue(1);
+        }
+        Slice<AuctionRepository.ListView> slice = query.fetch(endTime, id, PageRequest.of(0, clampPageSize(size)));
+        return withTotal(CursorSlice.of(slice, AuctionResponse::fromView,
+                view -> CursorCodec.encode(view.getEndTime(), view.getId())), countKey, counter);
+    }
+
+    private CursorSlice<AuctionResponse> withTotal(CursorSlice<AuctionResponse> page, String countKey, LongSupplier counter) {
+        if (countKey == null) {
+            return page;
+        }
+        // Toplam sayı kısa süre önbellekte tutulur; sayfa başına COUNT çalışmaz
+        Long total = feedCounts.get(countKey);
+        if (total == null) {
+            total = counter.getAsLong();
+            feedCounts.put(countKey, total);
+        }
+        page.setTotalElements(total);
+        return page;
+    }
+
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    @FunctionalInterface
+    private interface FeedQuery {
+        Slice<AuctionRepository.ListView> fetch(LocalDateTime key, Long id, Pageable pageable);
     }
 
     @Override
@@ -214,45 +407,65 @@ public class AuctionCrudServiceImpl implements AuctionCrudService {
     public List<AuctionResponse> getUpcomingAuctions(LocalDateTime start, LocalDateTime end) {
         log.debug("Getting upcoming auctions between {} and {}", start, end);
 
-        List<Auction> auctions = auctionRepository.findUpcomingAuctions(start, end);
-        return auctions.stream()
-                .map(AuctionResponse::fromEntity)
+        return auctionRepository.findUpcomingViews(start, end).stream()
+                .map(AuctionResponse::fromView)
                 .collect(Collectors.toList());
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<AuctionResponse> getEndingSoonAuctions(int hoursAhead) {
         log.debug("Getting auctions ending in the next {} hours", hoursAhead);
 
+        if (!auctionListCache.isCacheableEndingSoon(hoursAhead)) {
+            return loadEndingSoonAuctions(hoursAhead);
+        }
+        return auctionListCache.get(AuctionListCache.endingSoonKey(hoursAhead), () -> loadEndingSoonAuctions(hoursAhead));
+    }
+
+    private List<AuctionResponse> loadEndingSoonAuctions(int hoursAhead) {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime endTime = now.plusHours(hoursAhead);
-        List<Auction> auctions = auctionRepository.findEndingSoonAuctions(now, endTime);
-        return auctions.stream()
-                .map(AuctionResponse::fromEntity)
-                .collect(Collectors.toList());
+        if (!endingSoonIndex.isReady()) {
+            return auctionRepository.findEndingSoonViews(now, endTime).stream()
+                    .map(AuctionResponse::fromView)
+                    .collect(Collectors.toList());
+        }
+
+        // Aday ihaleler indeksten gelir; durum ve bitiş zamanı yüklenen satırdan yeniden doğrulanır
+        List<UUID> candidates = endingSoonIndex.endingBetween(now, endTime);
+        List<AuctionResponse> auctions = new ArrayList<>(candidates.size());
+        for (int from = 0; from < candidates.size(); from += ENDING_SOON_LOAD_CHUNK) {
+            List<UUID> chunk = candidates.subList(from, Math.min(from + ENDING_SOON_LOAD_CHUNK, candidates.size()));
+            auctionRepository.findViewsByPublicIds(chunk).stream()
+                    .filter(view -> "ACTIVE".equals(view.getStatus()))
+                    .filter(view -> !view.getEndTime().isBefore(now) && !view.getEndTime().isAfter(endTime))
+                    .map(AuctionResponse::fromView)
+                    .forEach(auctions::add);
+        }
+        auctions.sort(Comparator.comparing(AuctionResponse::getEndTime));
+        return auctions;
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<AuctionResponse> getFeaturedAuctions() {
         log.debug("Getting featured auctions");
 
-        List<Auction> auctions = auctionRepository.findFeaturedAuctions();
-        return auctions.stream()
-                .map(AuctionResponse::fromEntity)
-                .collect(Collectors.toList());
+        // Önbellek isabetinde bağlantı/transaction açılmaz
+        return auctionListCache.get(AuctionListCache.FEATURED, () -> auctionRepository.findFeaturedViews().stream()
+                .map(AuctionResponse::fromView)
+                .collect(Collectors.toList()));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<AuctionResponse> getLiveAuctions() {
         log.debug("Getting live auctions");
 
-        List<Auction> auctions = auctionRepository.findLiveAuctions();
-        return auctions.stream()
-                .map(AuctionResponse::fromEntity)
-                .collect(Collectors.toList());
+        return auctionListCache.get(AuctionListCache.LIVE, () -> auctionRepository.findLiveViews().stream()
+                .map(AuctionResponse::fromView)
+                .collect(Collectors.toList()));
     }
 
     @Override
@@ -264,6 +477,8 @@ public class AuctionCrudServiceImpl implements AuctionCrudService {
 
         auction.setStatus(status);
         Auction updatedAuction = auctionRepository.save(auction);
+        bidSequencer.invalidate(publicId);
+        trackDeadline(updatedAuction);
 
         log.debug("Auction status updated successfully: {}", publicId);
         return AuctionResponse.fromEntity(updatedAuction);
@@ -282,20 +497,32 @@ public class AuctionCrudServiceImpl implements AuctionCrudService {
         }
 
         auctionRepository.delete(auction);
+        bidSequencer.invalidate(publicId);
+        deadlineTracker.untrack(publicId);
+        auctionListCache.invalidateAllAfterCommit();
         log.debug("Auction deleted successfully: {}", publicId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public AuctionResponse incrementViewCount(UUID publicId) {
-        log.debug("Incrementing view count for auction: {}", publicId);
+        log.debug("Recording view for auction: {}", publicId);
 
-        Auction auction = auctionRepository.findByPublicId(publicId)
+        Auction auction = auctionRepository.findWithSellerByPublicId(publicId)
                 .orElseThrow(() -> new ResourceNotFoundException("İhale bulunamadı: " + publicId));
 
-        auction.setViewCount(auction.getViewCount() + 1);
-        Auction updatedAuction = auctionRepository.save(auction);
+        // Sayaç bellekte birikir, veritabanına ViewCountAggregator toplu olarak yazar
+        viewCountAggregator.record(publicId);
+        return withPendingViews(AuctionResponse.fromEntity(auction));
+    }
 
-        return AuctionResponse.fromEntity(updatedAuction);
+    private AuctionResponse withPendingViews(AuctionResponse response) {
+        long pendingViews = viewCountAggregator.pendingFor(response.getPublicId());
+        if (pendingViews > 0) {
+            int stored = response.getViewCount() == null ? 0 : response.getViewCount();
+            response.setViewCount((int) Math.min(Integer.MAX_VALUE, stored + pendingViews));
+        }
+        return response;
     }
 
     @Override
@@ -307,6 +534,7 @@ public class AuctionCrudServiceImpl implements AuctionCrudService {
 
         auction.setIsFeatured(!auction.getIsFeatured());
         Auction updatedAuction = auctionRepository.save(auction);
+        auctionListCache.invalidateAfterCommit(AuctionListCache.FEATURED);
 
         log.debug("Featured status toggled for auction: {} to {}", publicId, auction.getIsFeatured());
         return AuctionResponse.fromEntity(updatedAuction);
@@ -321,8 +549,25 @@ public class AuctionCrudServiceImpl implements AuctionCrudService {
 
         auction.setIsLive(!auction.getIsLive());
         Auction updatedAuction = auctionRepository.save(auction);
+        auctionListCache.invalidateAfterCommit(AuctionListCache.LIVE);
 
         log.debug("Live status toggled for auction: {} to {}", publicId, auction.getIsLive());
         return AuctionResponse.fromEntity(updatedAuction);
     }
-}
\ No newline at end of file
+
+    /**
+     * Only active auctions are scheduled for automatic closing; pending ones for activation
+     */
+    private void trackDeadline(Auction auction) {
+        // Durum ve zaman değişiklikleri her üç listeyi de etkileyebilir
+        auctionListCache.invalidateAllAfterCommit();
+        if ("ACTIVE".equals(auction.getStatus())) {
+            deadlineTracker.track(auction.getPublicId(), auction.getEndTime());
+            return;
+        }
+        deadlineTracker.untrack(auction.getPublicId());
+        if ("PENDING".equals(auction.getStatus())) {
+            activationScheduler.register(auction.getPublicId(), auction.getStartTime(), auction.getEndTime());
+        }
+    }
+}
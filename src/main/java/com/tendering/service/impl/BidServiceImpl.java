@@ -1,5 +1,6 @@
 package com.tendering.service.impl;
 
+import com.tendering.dto.common.CursorSlice;
 import com.tendering.dto.request.bid.BidCreateRequest;
 import com.tendering.dto.response.bid.BidResponse;
 import com.tendering.exceptionHandlers.ResourceNotFoundException;
@@ -9,18 +10,24 @@ import com.tendering.model.User;
 import com.tendering.repository.AuctionRepository;
 import com.tendering.repository.BidRepository;
 import com.tendering.repository.UserRepository;
+import com.tendering.service.BidLeaderboardService;
+import com.tendering.service.BidRateLimiter;
+import com.tendering.service.BidSequencer;
 import com.tendering.service.BidService;
-import com.tendering.util.AuctionValidationUtil;
+import com.tendering.util.CursorCodec;
+import com.tendering.validator.bid.BidValidationResult;
+import com.tendering.validator.bid.BidValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -32,48 +39,33 @@ import java.util.stream.Collectors;
 @Transactional
 public class BidServiceImpl implements BidService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final BidRepository bidRepository;
     private final AuctionRepository auctionRepository;
     private final UserRepository userRepository;
-    private final AuctionValidationUtil auctionValidationUtil;
+    private final BidSequencer bidSequencer;
+    private final BidLeaderboardService bidLeaderboardService;
+    private final BidValidator bidValidator;
+    private final BidRateLimiter bidRateLimiter;
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BidResponse createBid(BidCreateRequest request, UUID bidderPublicId) {
         log.debug("Creating new bid for auction: {} by bidder: {}", request.getAuctionPublicId(), bidderPublicId);
 
-        // Get auction
-        Auction auction = auctionRepository.findByPublicId(request.getAuctionPublicId())
-                .orElseThrow(() -> new ResourceNotFoundException("İhale bulunamadı: " + request.getAuctionPublicId()));
-
-        // Get bidder
-        User bidder = userRepository.findByPublicId(bidderPublicId)
-                .orElseThrow(() -> new ResourceNotFoundException("Kullanıcı bulunamadı: " + bidderPublicId));
-
-        // Validate bid using utility
-        if (!auctionValidationUtil.canUserBidOnAuction(auction, bidder)) {
-            throw new IllegalStateException("Bu ihalede teklif veremezsiniz");
-        }
-
-        // Validate bid amount
-        if (!canBid(request.getAuctionPublicId(), bidderPublicId, request.getAmount())) {
-            throw new IllegalStateException("Bu teklifi veremezsiniz");
-        }
-
-        // Create bid
-        Bid bid = Bid.builder()
-                .auction(auction)
-                .bidder(bidder)
-                .amount(request.getAmount())
-                .build();
+        // Abusive clients are turned away before any DB work
+        bidRateLimiter.admit(bidderPublicId, request.getAuctionPublicId());
 
-        Bid savedBid = bidRepository.save(bid);
+        // Bidder and wallet are loaded together; the auction is only read by the writer lane
+        BidValidator.ResolvedBidder bidder = bidValidator.resolveBidder(bidderPublicId);
 
-        // Update auction current price
-        auction.setCurrentPrice(request.getAmount());
-        auctionRepository.save(auction);
+        // Validation and persistence happen on the auction's single writer lane
+        BidResponse response = bidSequencer.submit(
+                request.getAuctionPublicId(), bidder.user(), bidder.funds(), request.getAmount());
 
-        log.debug("Bid created successfully with ID: {}", savedBid.getPublicId());
-        return BidResponse.fromEntity(savedBid);
+        log.debug("Bid created successfully with ID: {}", response.getPublicId());
+        return response;
     }
 
     @Override
@@ -111,16 +103,78 @@ public class BidServiceImpl implements BidService {
         return bidPage.map(BidResponse::fromEntity);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<BidResponse> getBidsByAuctionCursor(UUID auctionPublicId, String sort, String cursor, int size) {
+        log.debug("Getting bids for auction: {} sorted by {} after cursor: {}", auctionPublicId, sort, cursor);
+
+        Auction auction = auctionRepository.findByPublicId(auctionPublicId)
+                .orElseThrow(() -> new ResourceNotFoundException("İhale bulunamadı: " + auctionPublicId));
+
+        Pageable pageable = PageRequest.of(0, clampPageSize(size));
+        if ("amount".equals(sort)) {
+            Slice<Bid> slice;
+            if (cursor == null || cursor.isBlank()) {
+                slice = bidRepository.findByAmountByAuctionId(auction.getId(), pageable);
+            } else {
+                CursorCodec.Cursor position = CursorCodec.decode(cursor, 2);
+                slice = bidRepository.findByAmountByAuctionIdAfter(
+                        auction.getId(), position.decimal(0), position.longValue(1), pageable);
+            }
+            return CursorSlice.of(slice, BidResponse::fromEntity, bid -> CursorCodec.encode(bid.getAmount(), bid.getId()));
+        }
+
+        Slice<Bid> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = bidRepository.findRecentByAuctionId(auction.getId(), pageable);
+        } else {
+            CursorCodec.Cursor position = CursorCodec.decode(cursor, 2);
+            slice = bidRepository.findRecentByAuctionIdAfter(
+                    auction.getId(), position.timestamp(0), position.longValue(1), pageable);
+        }
+        return CursorSlice.of(slice, BidResponse::fromEntity, bid -> CursorCodec.encode(bid.getCreatedAt(), bid.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<BidResponse> getBidsByBidderCursor(UUID bidderPublicId, String cursor, int size) {
+        log.debug("Getting bids for bidder: {} after cursor: {}", bidderPublicId, cursor);
+
+        User bidder = userRepository.findByPublicId(bidderPublicId)
+                .orElseThrow(() -> new ResourceNotFoundException("Kullanıcı bulunamadı: " + bidderPublicId));
+
+        Pageable pageable = PageRequest.of(0, clampPageSize(size));
+        Slice<Bid> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = bidRepository.findRecentByBidderId(bidder.getId(), pageable);
+        } else {
+            CursorCodec.Cursor position = CursorCodec.decode(cursor, 2);
+            slice = bidRepository.findRecentByBidderIdAfter(
+                    bidder.getId(), position.timestamp(0), position.longValue(1), pageable);
+        }
+        return CursorSlice.of(slice, BidResponse::fromEntity, bid -> CursorCodec.encode(bid.getCreatedAt(), bid.getId()));
+    }
+
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<BidResponse> getHighestBidsByAuction(UUID auctionPublicId, int limit) {
         log.debug("Getting highest {} bids for auction: {}", limit, auctionPublicId);
 
+        Optional<List<BidResponse>> cachedBids = bidLeaderboardService.getTopBids(auctionPublicId, limit);
+        if (cachedBids.isPresent()) {
+            return cachedBids.get();
+        }
+
         Auction auction = auctionRepository.findByPublicId(auctionPublicId)
                 .orElseThrow(() -> new ResourceNotFoundException("İhale bulunamadı: " + auctionPublicId));
 
         Pageable pageable = PageRequest.of(0, limit);
         List<Bid> highestBids = bidRepository.findActiveHighestBidsByAuction(auction, pageable);
+        bidLeaderboardService.rebuild(auctionPublicId);
 
         return highestBids.stream()
                 .map(BidResponse::fromEntity)
@@ -132,10 +186,18 @@ public class BidServiceImpl implements BidService {
     public BigDecimal getHighestBidAmount(UUID auctionPublicId) {
         log.debug("Getting highest bid amount for auction: {}", auctionPublicId);
 
+        Optional<BigDecimal> cachedAmount = bidLeaderboardService.getHighestAmount(auctionPublicId);
+        if (cachedAmount.isPresent()) {
+            return cachedAmount.get();
+        }
+
         Auction auction = auctionRepository.findByPublicId(auctionPublicId)
                 .orElseThrow(() -> new ResourceNotFoundException("İhale bulunamadı: " + auctionPublicId));
 
         Optional<BigDecimal> highestAmount = bidRepository.findHighestBidAmount(auction);
+        if (highestAmount.isPresent()) {
+            bidLeaderboardService.rebuild(auctionPublicId);
+        }
         return highestAmount.orElse(auction.getStartPrice());
     }
 
@@ -147,7 +209,7 @@ public class BidServiceImpl implements BidService {
         Auction auction = auctionRepository.findByPublicId(auctionPublicId)
                 .orElseThrow(() -> new ResourceNotFoundException("İhale bulunamadı: " + auctionPublicId));
 
-        return bidRepository.countBidsByAuction(auction);
+        return auction.getBidCount().longValue();
     }
 
     @Override
@@ -168,70 +230,35 @@ public class BidServiceImpl implements BidService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BidResponse cancelBid(UUID bidPublicId) {
         log.debug("Canceling bid: {}", bidPublicId);
 
-        Bid bid = bidRepository.findByPublicId(bidPublicId)
+        UUID auctionPublicId = bidRepository.findAuctionPublicIdByPublicId(bidPublicId)
                 .orElseThrow(() -> new ResourceNotFoundException("Teklif bulunamadı: " + bidPublicId));
 
-        // Check if bid can be canceled
-        if (!"ACTIVE".equals(bid.getStatus())) {
-            throw new IllegalStateException("Sadece aktif teklifler iptal edilebilir");
-        }
-
-        // Check if auction is still active and hasn't ended
-        Auction auction = bid.getAuction();
-        if (!"ACTIVE".equals(auction.getStatus()) || auction.getEndTime().isBefore(LocalDateTime.now())) {
-            throw new IllegalStateException("İhale sonlandığı için teklif iptal edilemez");
-        }
-
-        bid.setStatus("CANCELED");
-        Bid updatedBid = bidRepository.save(bid);
+        // Status checks, the cancel and the aggregate recompute run on the auction's single writer lane
+        BidResponse response = bidSequencer.cancelBid(auctionPublicId, bidPublicId);
 
         log.debug("Bid canceled successfully: {}", bidPublicId);
-        return BidResponse.fromEntity(updatedBid);
+        return response;
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean canBid(UUID auctionPublicId, UUID bidderPublicId, BigDecimal amount) {
-        log.debug("Checking if bidder {} can bid {} on auction {}", bidderPublicId, amount, auctionPublicId);
-
-        // Get auction
-        Auction auction = auctionRepository.findByPublicId(auctionPublicId)
-                .orElseThrow(() -> new ResourceNotFoundException("İhale bulunamadı: " + auctionPublicId));
-
-        // Check auction status
-        if (!"ACTIVE".equals(auction.getStatus())) {
-            log.debug("Auction is not active: {}", auction.getStatus());
-            return false;
-        }
-
-        // Check auction timing
-        LocalDateTime now = LocalDateTime.now();
-        if (now.isBefore(auction.getStartTime()) || now.isAfter(auction.getEndTime())) {
-            log.debug("Auction is not in active time range");
-            return false;
-        }
+        return validateBid(auctionPublicId, bidderPublicId, amount).valid();
+    }
 
-        // Check if bidder is not the seller
-        User bidder = userRepository.findByPublicId(bidderPublicId)
-                .orElseThrow(() -> new ResourceNotFoundException("Kullanıcı bulunamadı: " + bidderPublicId));
-        
-        if (bidder.equals(auction.getSeller())) {
-            log.debug("Bidder cannot bid on their own auction");
-            return false;
-        }
+    @Override
+    @Transactional(readOnly = true)
+    public BidValidationResult validateBid(UUID auctionPublicId, UUID bidderPublicId, BigDecimal amount) {
+        log.debug("Checking if bidder {} can bid {} on auction {}", bidderPublicId, amount, auctionPublicId);
 
-        // Check minimum bid amount
-        BigDecimal currentPrice = auction.getCurrentPrice();
-        BigDecimal minimumBid = currentPrice.add(auction.getMinBidIncrement());
-        
-        if (amount.compareTo(minimumBid) < 0) {
-            log.debug("Bid amount {} is less than minimum required: {}", amount, minimumBid);
-            return false;
+        BidValidationResult result = bidValidator.validate(auctionPublicId, bidderPublicId, amount);
+        if (!result.valid()) {
+            log.debug("Bid rejected by rule {}: {}", result.failedRule(), result.message());
         }
-
-        return true;
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package com.tendering.util;
+
+import com.tendering.repository.AuctionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * İhale okuma uçları için sürüm numarasından zayıf ETag üretir.
+ * Görüntülenme sayısı sürümü artırmadığından ETag zayıftır: içerik anlamca aynı, bayt bayt aynı olmayabilir.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionETagResolver {
+
+    private final AuctionRepository auctionRepository;
+
+    /**
+     * İhale yoksa boş döner; bu durumda istek normal akışta 404 ile sonuçlanır
+     */
+    public Optional<String> resolve(UUID auctionPublicId) {
+        return auctionRepository.findVersionByPublicId(auctionPublicId)
+                .map(version -> "W/\"" + auctionPublicId + "-" + version + "\"");
+    }
+}
@@ -2,13 +2,24 @@ package com.tendering.util;
 
 import com.tendering.model.Auction;
 import com.tendering.model.User;
+import com.tendering.service.AuctionDeadlineTracker;
+import com.tendering.validator.bid.BidRuleChain;
+import com.tendering.validator.bid.BidRules;
+import com.tendering.validator.bid.BidValidationContext;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 
 @Component
+@RequiredArgsConstructor
 public class AuctionValidationUtil {
 
+    private static final BidRuleChain AUCTION_ACCESS_RULES =
+            BidRuleChain.of(BidRules.AUCTION_STATUS, BidRules.BIDDING_WINDOW, BidRules.SELF_BID);
+
+    private final AuctionDeadlineTracker deadlineTracker;
+
     /**
      * Validates if auction timing is valid
      */
@@ -21,19 +32,23 @@ public class AuctionValidationUtil {
      * Checks if user can bid on auction
      */
     public boolean canUserBidOnAuction(Auction auction, User bidder) {
-        // User cannot bid on their own auction
-        if (auction.getSeller().equals(bidder)) {
-            return false;
-        }
-
-        // Auction must be active
-        if (!"ACTIVE".equals(auction.getStatus())) {
-            return false;
-        }
+        BidValidationContext context = BidValidationContext.builder()
+                .auctionPublicId(auction.getPublicId())
+                .sellerPublicId(auction.getSeller().getPublicId())
+                .auctionStatus(auction.getStatus())
+                .startTime(auction.getStartTime())
+                .endTime(getEffectiveEndTime(auction))
+                .bidderPublicId(bidder.getPublicId())
+                .now(LocalDateTime.now())
+                .build();
+        return AUCTION_ACCESS_RULES.validate(context).valid();
+    }
 
-        // Auction must be in active time range
-        LocalDateTime now = LocalDateTime.now();
-        return !now.isBefore(auction.getStartTime()) && !now.isAfter(auction.getEndTime());
+    /**
+     * Returns the end time including soft-close extensions tracked in memory
+     */
+    public LocalDateTime getEffectiveEndTime(Auction auction) {
+        return deadlineTracker.endTimeOf(auction.getPublicId()).orElse(auction.getEndTime());
     }
 
     /**
@@ -45,7 +60,7 @@ public class AuctionValidationUtil {
             return false;
         }
         
-        return auction.getBids().isEmpty();
+        return auction.getBidCount() == 0;
     }
 
     /**
@@ -53,7 +68,7 @@ public class AuctionValidationUtil {
      */
     public boolean canDeleteAuction(Auction auction) {
         // Cannot delete active auction with bids
-        return !("ACTIVE".equals(auction.getStatus()) && !auction.getBids().isEmpty());
+        return !("ACTIVE".equals(auction.getStatus()) && auction.getBidCount() > 0);
     }
 
     /**
@@ -61,9 +76,10 @@ public class AuctionValidationUtil {
      */
     public long getTimeRemainingInMinutes(Auction auction) {
         LocalDateTime now = LocalDateTime.now();
-        if (now.isAfter(auction.getEndTime())) {
+        LocalDateTime endTime = getEffectiveEndTime(auction);
+        if (now.isAfter(endTime)) {
             return 0;
         }
-        return java.time.Duration.between(now, auction.getEndTime()).toMinutes();
+        return java.time.Duration.between(now, endTime).toMinutes();
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.tendering.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tek satırlık CSV kaydını alanlarına ayırır (RFC 4180 tırnaklama, "" kaçışı).
+ * Tırnak içinde satır sonu desteklenmez; içe aktarmada her kayıt tek satırdır.
+ */
+public final class CsvLineParser {
+
+    private CsvLineParser() {
+    }
+
+    public static List<String> parse(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                if (field.length() > 0) {
+                    throw new IllegalArgumentException("Beklenmeyen tırnak, sütun " + (fields.size() + 1));
+                }
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(finish(field, wasQuoted));
+                field.setLength(0);
+                wasQuoted = false;
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Kapanmamış tırnak");
+        }
+        fields.add(finish(field, wasQuoted));
+        return fields;
+    }
+
+    // Tırnaksız boş alan null sayılır; "" ise boş metindir
+    private static String finish(StringBuilder field, boolean wasQuoted) {
+        String value = wasQuoted ? field.toString() : field.toString().trim();
+        return value.isEmpty() && !wasQuoted ? null : value;
+    }
+}
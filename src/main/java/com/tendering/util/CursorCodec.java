@@ -0,0 +1,75 @@
+package com.tendering.util;
+
+import com.tendering.exceptionHandlers.InvalidCursorException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset sayfalamada son satırın sıralama anahtarlarını istemciye opak bir imleç olarak taşır
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... parts) {
+        String raw = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != expectedParts) {
+                throw new InvalidCursorException("Geçersiz sayfa imleci");
+            }
+            return new Cursor(parts);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Geçersiz sayfa imleci");
+        }
+    }
+
+    public static final class Cursor {
+
+        private final String[] parts;
+
+        private Cursor(String[] parts) {
+            this.parts = parts;
+        }
+
+        public LocalDateTime timestamp(int index) {
+            try {
+                return LocalDateTime.parse(parts[index]);
+            } catch (DateTimeParseException e) {
+                throw new InvalidCursorException("Geçersiz sayfa imleci");
+            }
+        }
+
+        public long longValue(int index) {
+            try {
+                return Long.parseLong(parts[index]);
+            } catch (NumberFormatException e) {
+                throw new InvalidCursorException("Geçersiz sayfa imleci");
+            }
+        }
+
+        public BigDecimal decimal(int index) {
+            try {
+                return new BigDecimal(parts[index]);
+            } catch (NumberFormatException e) {
+                throw new InvalidCursorException("Geçersiz sayfa imleci");
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.tendering.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Son N olayı artan sıra numaralarıyla tutan sabit boyutlu halka tampon.
+ * Yeniden bağlanan istemci son gördüğü sıra numarasından itibaren kaçırdıklarını buradan alır;
+ * istenen nokta tampondan düşmüşse boş Optional döner ve istemcinin baştan yüklemesi gerekir.
+ */
+public class EventRingBuffer<T> {
+
+    private final Object[] slots;
+    private long nextSequence = 1;
+
+    public EventRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.slots = new Object[capacity];
+    }
+
+    /**
+     * Olayı ekler ve atanan sıra numarasını döner (1'den başlar)
+     */
+    public synchronized long append(T event) {
+        long sequence = nextSequence++;
+        slots[(int) (sequence % slots.length)] = event;
+        return sequence;
+    }
+
+    /**
+     * Son eklenen olayın sıra numarası; boşsa 0
+     */
+    public synchronized long lastSequence() {
+        return nextSequence - 1;
+    }
+
+    /**
+     * afterSequence'ten sonraki olaylar; araya düşen olay varsa (tamponun gerisinde kalındıysa) boş döner
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized Optional<List<Entry<T>>> since(long afterSequence) {
+        long last = nextSequence - 1;
+        if (afterSequence > last || afterSequence < 0) {
+            return Optional.empty();
+        }
+        long oldest = Math.max(1, last - slots.length + 1);
+        if (afterSequence + 1 < oldest) {
+            return Optional.empty();
+        }
+        List<Entry<T>> entries = new ArrayList<>((int) (last - afterSequence));
+        for (long sequence = afterSequence + 1; sequence <= last; sequence++) {
+            entries.add(new Entry<>(sequence, (T) slots[(int) (sequence % slots.length)]));
+        }
+        return Optional.of(entries);
+    }
+
+    public record Entry<T>(long sequence, T event) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.tendering.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Anahtar başına tek bir son tarih tutan hiyerarşik zamanlayıcı çarkı.
+ * Her seviye bir alt seviyenin tam turunu tek dilimde tutar; dilim zamanı geldiğinde girdiler bir alt
+ * seviyeye indirilir. Yeniden planlama ve iptal O(1)'dir, eski girdiler işlenirken tembel olarak atılır.
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long[] spans;
+    private final List<List<List<Slot<K>>>> levels;
+    private final List<Slot<K>> overflow = new ArrayList<>();
+    private final Map<K, Long> deadlines = new HashMap<>();
+    private long currentTick;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, int levelCount, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2 || levelCount < 1) {
+            throw new IllegalArgumentException("Invalid timing wheel dimensions");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.spans = new long[levelCount + 1];
+        this.levels = new ArrayList<>(levelCount);
+        spans[0] = 1;
+        for (int level = 0; level < levelCount; level++) {
+            spans[level + 1] = Math.multiplyExact(spans[level], wheelSize);
+            List<List<Slot<K>>> buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+            levels.add(buckets);
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * Anahtarın son tarihini ekler veya değiştirir
+     */
+    public synchronized void schedule(K key, long deadlineMs) {
+        // Son tarihten önce tetiklenmemek için yukarı yuvarla
+        long deadlineTick = Math.floorDiv(deadlineMs + tickMs - 1, tickMs);
+        deadlines.put(key, deadlineMs);
+        place(new Slot<>(key, deadlineMs, Math.max(deadlineTick, currentTick + 1)));
+    }
+
+    public synchronized boolean cancel(K key) {
+        return deadlines.remove(key) != null;
+    }
+
+    public synchronized Long deadlineOf(K key) {
+        return deadlines.get(key);
+    }
+
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    /**
+     * Çarkı verilen zamana kadar ilerletir ve süresi dolan anahtarları döner
+     */
+    public synchronized List<K> advance(long nowMs) {
+        List<K> expired = new ArrayList<>();
+        long targetTick = nowMs / tickMs;
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = levels.size() - 1; level >= 1; level--) {
+                if (currentTick % spans[level] == 0) {
+                    cascade(level, expired);
+                }
+            }
+            if (currentTick % spans[levels.size()] == 0) {
+                List<Slot<K>> pending = new ArrayList<>(overflow);
+                overflow.clear();
+                pending.forEach(slot -> reinsert(slot, expired));
+            }
+            List<Slot<K>> bucket = levels.get(0).get((int) (currentTick % wheelSize));
+            List<Slot<K>> due = new ArrayList<>(bucket);
+            bucket.clear();
+            due.forEach(slot -> reinsert(slot, expired));
+        }
+        return expired;
+    }
+
+    private void cascade(int level, List<K> expired) {
+        List<Slot<K>> bucket = levels.get(level).get((int) ((currentTick / spans[level]) % wheelSize));
+        List<Slot<K>> moved = new ArrayList<>(bucket);
+        bucket.clear();
+        moved.forEach(slot -> reinsert(slot, expired));
+    }
+
+    private void reinsert(Slot<K> slot, List<K> expired) {
+        Long deadlineMs = deadlines.get(slot.key);
+        if (deadlineMs == null || deadlineMs != slot.deadlineMs) {
+            // İptal edilmiş veya yeniden planlanmış
+            return;
+        }
+        if (slot.deadlineTick <= currentTick) {
+            deadlines.remove(slot.key);
+            expired.add(slot.key);
+        } else {
+            place(slot);
+        }
+    }
+
+    private void place(Slot<K> slot) {
+        long ticksAway = slot.deadlineTick - currentTick;
+        for (int level = 0; level < levels.size(); level++) {
+            if (ticksAway < spans[level + 1]) {
+                int index = (int) ((slot.deadlineTick / spans[level]) % wheelSize);
+                levels.get(level).get(index).add(slot);
+                return;
+            }
+        }
+        overflow.add(slot);
+    }
+
+    private record Slot<K>(K key, long deadlineMs, long deadlineTick) {
+    }
+}
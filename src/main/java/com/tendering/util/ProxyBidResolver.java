@@ -0,0 +1,87 @@
+package com.tendering.util;
+
+import com.tendering.model.ProxyBid;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class ProxyBidResolver {
+
+    private static final Comparator<ProxyBid> BY_PRIORITY = Comparator
+            .comparing(ProxyBid::getMaxAmount, Comparator.reverseOrder())
+            .thenComparing(ProxyBid::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    /**
+     * Resolves competing proxy bids against the current price and leader.
+     * The highest maximum wins (ties go to the earliest registration) at the second highest
+     * maximum plus one increment, so only the resulting bids are produced instead of a bidding war.
+     */
+    public Resolution resolve(BigDecimal currentPrice, UUID leaderPublicId, BigDecimal increment, List<ProxyBid> proxies) {
+        BigDecimal minimumNext = currentPrice.add(increment);
+
+        List<ProxyBid> eligible = proxies.stream()
+                .filter(proxy -> "ACTIVE".equals(proxy.getStatus()))
+                .filter(proxy -> isBidder(proxy, leaderPublicId) || proxy.getMaxAmount().compareTo(minimumNext) >= 0)
+                .sorted(BY_PRIORITY)
+                .collect(Collectors.toList());
+
+        List<Step> steps = new ArrayList<>();
+        BigDecimal price = currentPrice;
+        UUID leader = leaderPublicId;
+
+        if (!eligible.isEmpty()) {
+            ProxyBid top = eligible.get(0);
+            UUID topBidder = top.getBidder().getPublicId();
+
+            ProxyBid second = eligible.stream()
+                    .skip(1)
+                    .filter(proxy -> !isBidder(proxy, topBidder))
+                    .findFirst()
+                    .orElse(null);
+
+            if (second != null) {
+                // The runner-up bids as high as it can while still leaving room for the top proxy
+                BigDecimal secondAmount = second.getMaxAmount().min(top.getMaxAmount().subtract(increment));
+                if (secondAmount.compareTo(price.add(increment)) >= 0) {
+                    steps.add(new Step(second, secondAmount));
+                    price = secondAmount;
+                    leader = second.getBidder().getPublicId();
+                }
+            }
+
+            if (!topBidder.equals(leader)) {
+                price = price.add(increment);
+                steps.add(new Step(top, price));
+                leader = topBidder;
+            }
+        }
+
+        // Proxies that can no longer outbid the final price are exhausted
+        BigDecimal nextPrice = price.add(increment);
+        UUID finalLeader = leader;
+        List<ProxyBid> exhausted = proxies.stream()
+                .filter(proxy -> "ACTIVE".equals(proxy.getStatus()))
+                .filter(proxy -> !isBidder(proxy, finalLeader))
+                .filter(proxy -> proxy.getMaxAmount().compareTo(nextPrice) < 0)
+                .collect(Collectors.toList());
+
+        return new Resolution(steps, exhausted, price, leader);
+    }
+
+    private boolean isBidder(ProxyBid proxy, UUID bidderPublicId) {
+        return Objects.equals(proxy.getBidder().getPublicId(), bidderPublicId);
+    }
+
+    public record Step(ProxyBid proxy, BigDecimal amount) {
+    }
+
+    public record Resolution(List<Step> steps, List<ProxyBid> exhausted, BigDecimal finalPrice, UUID leaderPublicId) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.tendering.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Kilitsiz token bucket. Kova durumu tek bir "teorik varış zamanı" (GCRA) olarak tutulur ve CAS ile
+ * ilerletilir; boş kova için ek alan veya zamanlayıcı gerekmez.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(int capacity, double refillPerSecond) {
+        this(capacity, refillPerSecond, System::nanoTime);
+    }
+
+    TokenBucket(int capacity, double refillPerSecond, LongSupplier nanoClock) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and refillPerSecond must be positive");
+        }
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.nanoClock = nanoClock;
+        this.theoreticalArrival = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Bir token almayı dener; başarılıysa 0, değilse bir sonraki token için beklenmesi gereken nanosaniye
+     */
+    public long tryAcquire() {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long overshoot = next - now - burstNanos;
+            if (overshoot > 0) {
+                return overshoot;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Kova tamamen dolmuşsa true; bu durumda kova atılıp yeniden oluşturulabilir
+     */
+    public boolean isFull() {
+        return theoreticalArrival.get() <= nanoClock.getAsLong();
+    }
+}
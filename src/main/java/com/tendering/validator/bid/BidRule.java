@@ -0,0 +1,27 @@
+package com.tendering.validator.bid;
+
+import java.util.function.Function;
+
+/**
+ * Tek bir teklif kuralı; teklif geçerliyse null, değilse ret sebebini döner
+ */
+public interface BidRule {
+
+    String name();
+
+    String check(BidValidationContext context);
+
+    static BidRule of(String name, Function<BidValidationContext, String> check) {
+        return new BidRule() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public String check(BidValidationContext context) {
+                return check.apply(context);
+            }
+        };
+    }
+}
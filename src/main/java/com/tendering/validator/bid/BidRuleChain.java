@@ -0,0 +1,41 @@
+package com.tendering.validator.bid;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Kuralları sırayla çalıştırır ve ilk ihlalde durur; ucuz kurallar başa konmalıdır
+ */
+public final class BidRuleChain {
+
+    private final List<BidRule> rules;
+
+    private BidRuleChain(List<BidRule> rules) {
+        this.rules = Collections.unmodifiableList(rules);
+    }
+
+    public static BidRuleChain of(BidRule... rules) {
+        return new BidRuleChain(List.of(rules));
+    }
+
+    public BidRuleChain then(BidRule rule) {
+        List<BidRule> extended = new ArrayList<>(rules);
+        extended.add(rule);
+        return new BidRuleChain(extended);
+    }
+
+    public BidValidationResult validate(BidValidationContext context) {
+        for (BidRule rule : rules) {
+            String rejection = rule.check(context);
+            if (rejection != null) {
+                return BidValidationResult.rejected(rule.name(), rejection);
+            }
+        }
+        return BidValidationResult.ok();
+    }
+
+    public List<BidRule> getRules() {
+        return rules;
+    }
+}
@@ -0,0 +1,55 @@
+package com.tendering.validator.bid;
+
+import java.math.BigDecimal;
+
+/**
+ * Standart teklif kuralları
+ */
+public final class BidRules {
+
+    public static final BidRule AUCTION_STATUS = BidRule.of("AUCTION_STATUS", context ->
+            "ACTIVE".equals(context.auctionStatus()) ? null : "İhale aktif değil");
+
+    public static final BidRule BIDDING_WINDOW = BidRule.of("BIDDING_WINDOW", context -> {
+        if (context.now().isBefore(context.startTime())) {
+            return "İhale henüz başlamadı";
+        }
+        if (context.now().isAfter(context.endTime())) {
+            return "İhale sona erdi";
+        }
+        return null;
+    });
+
+    public static final BidRule SELF_BID = BidRule.of("SELF_BID", context ->
+            context.sellerPublicId().equals(context.bidderPublicId()) ? "Kendi ihalenize teklif veremezsiniz" : null);
+
+    public static final BidRule MINIMUM_INCREMENT = BidRule.of("MINIMUM_INCREMENT", context ->
+            context.amount().compareTo(context.minimumBid()) < 0
+                    ? "Teklif en az " + context.minimumBid() + " olmalıdır"
+                    : null);
+
+    /**
+     * Lider zaten güncel fiyatta olduğu için maksimumunu güncel fiyata kadar düşürebilir
+     */
+    public static final BidRule PROXY_MINIMUM = BidRule.of("PROXY_MINIMUM", context -> {
+        BigDecimal minimum = context.isLeader() ? context.currentPrice() : context.minimumBid();
+        return context.amount().compareTo(minimum) < 0 ? "Maksimum teklif en az " + minimum + " olmalıdır" : null;
+    });
+
+    public static final BidRule WALLET_SUFFICIENCY = BidRule.of("WALLET_SUFFICIENCY", context -> {
+        BidderFunds funds = context.funds();
+        if (funds == null) {
+            return "Cüzdan bulunamadı";
+        }
+        if (funds.locked()) {
+            return "Cüzdan kilitli";
+        }
+        if (funds.balance().compareTo(context.amount()) < 0) {
+            return "Yetersiz bakiye. Gerekli: " + context.amount() + ", Mevcut: " + funds.balance();
+        }
+        return null;
+    });
+
+    private BidRules() {
+    }
+}
@@ -0,0 +1,35 @@
+package com.tendering.validator.bid;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Bir teklifin doğrulanması için gereken ihale ve teklif veren bilgilerinin değişmez kopyası.
+ * İhale ve teklif veren bir kez yüklenir, tüm kurallar aynı bağlam üzerinde çalışır.
+ */
+@Builder
+public record BidValidationContext(
+        UUID auctionPublicId,
+        UUID sellerPublicId,
+        String auctionStatus,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        BigDecimal currentPrice,
+        BigDecimal minBidIncrement,
+        UUID leaderPublicId,
+        UUID bidderPublicId,
+        BidderFunds funds,
+        BigDecimal amount,
+        LocalDateTime now) {
+
+    public BigDecimal minimumBid() {
+        return currentPrice.add(minBidIncrement);
+    }
+
+    public boolean isLeader() {
+        return bidderPublicId.equals(leaderPublicId);
+    }
+}
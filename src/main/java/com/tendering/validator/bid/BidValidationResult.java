@@ -0,0 +1,17 @@
+package com.tendering.validator.bid;
+
+/**
+ * Kural zincirinin sonucu; geçersizse hangi kuralın hangi sebeple reddettiğini taşır
+ */
+public record BidValidationResult(boolean valid, String failedRule, String message) {
+
+    private static final BidValidationResult VALID = new BidValidationResult(true, null, null);
+
+    public static BidValidationResult ok() {
+        return VALID;
+    }
+
+    public static BidValidationResult rejected(String rule, String message) {
+        return new BidValidationResult(false, rule, message);
+    }
+}
@@ -0,0 +1,99 @@
+package com.tendering.validator.bid;
+
+import com.tendering.exceptionHandlers.ResourceNotFoundException;
+import com.tendering.model.Auction;
+import com.tendering.model.User;
+import com.tendering.model.Wallet;
+import com.tendering.repository.AuctionRepository;
+import com.tendering.repository.UserRepository;
+import com.tendering.repository.WalletRepository;
+import com.tendering.util.AuctionValidationUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Teklif kural zincirlerinin tek tanım noktası. İhale ve teklif veren birer sorguyla yüklenir,
+ * bağlam bir kez kurulur ve kurallar sırayla uygulanır.
+ */
+@Component
+@RequiredArgsConstructor
+public class BidValidator {
+
+    private final AuctionRepository auctionRepository;
+    private final UserRepository userRepository;
+    private final WalletRepository walletRepository;
+    private final AuctionValidationUtil auctionValidationUtil;
+
+    @Value("${bid.validation.require-wallet-funds:true}")
+    private boolean requireWalletFunds;
+
+    private BidRuleChain bidRules;
+    private BidRuleChain proxyRules;
+
+    @PostConstruct
+    void init() {
+        BidRuleChain bids = BidRuleChain.of(
+                BidRules.AUCTION_STATUS, BidRules.BIDDING_WINDOW, BidRules.SELF_BID, BidRules.MINIMUM_INCREMENT);
+        BidRuleChain proxies = BidRuleChain.of(
+                BidRules.AUCTION_STATUS, BidRules.BIDDING_WINDOW, BidRules.SELF_BID, BidRules.PROXY_MINIMUM);
+        // Cüzdan kuralı en sonda; yalnızca diğer kuralları geçen teklifler için bakiyeye bakılır
+        bidRules = requireWalletFunds ? bids.then(BidRules.WALLET_SUFFICIENCY) : bids;
+        proxyRules = requireWalletFunds ? proxies.then(BidRules.WALLET_SUFFICIENCY) : proxies;
+    }
+
+    public BidRuleChain bidRules() {
+        return bidRules;
+    }
+
+    public BidRuleChain proxyRules() {
+        return proxyRules;
+    }
+
+    /**
+     * Teklif vereni cüzdanıyla birlikte tek sorguda yükler; cüzdanı yoksa yalnızca kullanıcı yüklenir
+     */
+    public ResolvedBidder resolveBidder(UUID bidderPublicId) {
+        Optional<Wallet> wallet = walletRepository.findWithUserByUserPublicId(bidderPublicId);
+        if (wallet.isPresent()) {
+            return new ResolvedBidder(wallet.get().getUser(), BidderFunds.from(wallet.get()));
+        }
+        User bidder = userRepository.findByPublicId(bidderPublicId)
+                .orElseThrow(() -> new ResourceNotFoundException("Kullanıcı bulunamadı: " + bidderPublicId));
+        return new ResolvedBidder(bidder, null);
+    }
+
+    /**
+     * Teklifi yazmadan standart kurallara göre değerlendirir
+     */
+    public BidValidationResult validate(UUID auctionPublicId, UUID bidderPublicId, BigDecimal amount) {
+        Auction auction = auctionRepository.findWithSellerByPublicId(auctionPublicId)
+                .orElseThrow(() -> new ResourceNotFoundException("İhale bulunamadı: " + auctionPublicId));
+        ResolvedBidder bidder = resolveBidder(bidderPublicId);
+
+        BidValidationContext context = BidValidationContext.builder()
+                .auctionPublicId(auction.getPublicId())
+                .sellerPublicId(auction.getSeller().getPublicId())
+                .auctionStatus(auction.getStatus())
+                .startTime(auction.getStartTime())
+                .endTime(auctionValidationUtil.getEffectiveEndTime(auction))
+                .currentPrice(auction.getCurrentPrice())
+                .minBidIncrement(auction.getMinBidIncrement())
+                .leaderPublicId(auction.getLeaderPublicId())
+                .bidderPublicId(bidderPublicId)
+                .funds(bidder.funds())
+                .amount(amount)
+                .now(LocalDateTime.now())
+                .build();
+        return bidRules.validate(context);
+    }
+
+    public record ResolvedBidder(User user, BidderFunds funds) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.tendering.validator.bid;
+
+import com.tendering.model.Wallet;
+
+import java.math.BigDecimal;
+
+/**
+ * Teklif doğrulaması için teklif verenin cüzdanından alınan anlık görüntü
+ */
+public record BidderFunds(BigDecimal balance, boolean locked) {
+
+    public static BidderFunds from(Wallet wallet) {
+        if (wallet == null) {
+            return null;
+        }
+        return new BidderFunds(wallet.getBalance(), Boolean.TRUE.equals(wallet.getIsLocked()));
+    }
+}
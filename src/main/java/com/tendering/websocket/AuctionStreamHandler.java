@@ -0,0 +1,66 @@
+package com.tendering.websocket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * /ws/auctions/{publicId} bağlantılarını ilgili ihalenin akışına abone eder.
+ * Kanal yalnızca sunucudan istemciye çalışır; istemci mesajları yok sayılır.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionStreamHandler extends TextWebSocketHandler {
+
+    private static final String AUCTION_ATTRIBUTE = "auctionPublicId";
+
+    private final AuctionStreamHub streamHub;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        UUID auctionPublicId = auctionOf(session.getUri());
+        if (auctionPublicId == null) {
+            session.close(CloseStatus.BAD_DATA.withReason("Geçersiz ihale kimliği"));
+            return;
+        }
+        if (!streamHub.subscribe(auctionPublicId, session)) {
+            session.close(CloseStatus.SERVICE_OVERLOAD.withReason("İhale akışı dolu"));
+            return;
+        }
+        session.getAttributes().put(AUCTION_ATTRIBUTE, auctionPublicId);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        // Salt okunur kanal
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Object auctionPublicId = session.getAttributes().get(AUCTION_ATTRIBUTE);
+        if (auctionPublicId instanceof UUID id) {
+            streamHub.unsubscribe(id, session);
+        }
+    }
+
+    private UUID auctionOf(URI uri) {
+        if (uri == null) {
+            return null;
+        }
+        String path = uri.getPath();
+        try {
+            return UUID.fromString(path.substring(path.lastIndexOf('/') + 1));
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejected stream connection with invalid auction id: {}", path);
+            return null;
+        }
+    }
+}
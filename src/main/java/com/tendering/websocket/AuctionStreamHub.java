@@ -0,0 +1,269 @@
+package com.tendering.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tendering.dto.response.auction.AuctionStreamMessage;
+import com.tendering.dto.response.bid.BidResponse;
+import com.tendering.event.AuctionClosedEvent;
+import com.tendering.event.AuctionEndTimeExtendedEvent;
+import com.tendering.event.BidAcceptedEvent;
+import com.tendering.event.BidCanceledEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * İhale başına abonelikleri tutar ve kabul edilen teklifleri, fiyat değişikliklerini ve
+ * süre uzatmalarını bağlı istemcilere iter. Her olay bir kez serileştirilir; gönderim her bağlantının
+ * kendi sınırlı kuyruğundan paylaşılan gönderici havuzunda yapılır.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionStreamHub {
+
+    // Tomcat'in engelleyen gönderim zaman aşımı (ms); varsayılanı süresizdir
+    private static final String BLOCKING_SEND_TIMEOUT = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${auction.stream.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${auction.stream.max-queued-events:64}")
+    private int maxQueuedEvents;
+
+    @Value("${auction.stream.max-queued-chat:32}")
+    private int maxQueuedChat;
+
+    @Value("${auction.stream.max-subscribers-per-auction:10000}")
+    private int maxSubscribersPerAuction;
+
+    @Value("${auction.stream.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    private final Map<UUID, Set<StreamSubscriber>> topics = new ConcurrentHashMap<>();
+    private final Map<String, StreamSubscriber> bySession = new ConcurrentHashMap<>();
+    private final AtomicInteger threadCounter = new AtomicInteger();
+    private ExecutorService senders;
+
+    @PostConstruct
+    void init() {
+        senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "auction-stream-sender-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+    }
+
+    public boolean subscribe(UUID auctionPublicId, WebSocketSession session) {
+        StreamSubscriber subscriber = new StreamSubscriber(session, maxQueuedEvents, maxQueuedChat);
+        // Boşalan konunun silinmesiyle yarışmaması için ekleme compute içinde yapılır
+        Set<StreamSubscriber> subscribers = topics.compute(auctionPublicId, (key, current) -> {
+            Set<StreamSubscriber> set = current != null ? current : ConcurrentHashMap.newKeySet();
+            if (set.size() < maxSubscribersPerAuction) {
+                set.add(subscriber);
+            }
+            return set.isEmpty() ? null : set;
+        });
+        if (subscribers == null || !subscribers.contains(subscriber)) {
+            return false;
+        }
+        bySession.put(session.getId(), subscriber);
+        limitSendTime(session);
+        log.debug("Stream subscriber {} joined auction {} ({} total)", session.getId(), auctionPublicId, subscribers.size());
+        return true;
+    }
+
+    public void unsubscribe(UUID auctionPublicId, WebSocketSession session) {
+        StreamSubscriber subscriber = bySession.remove(session.getId());
+        if (subscriber == null) {
+            return;
+        }
+        if (subscriber.droppedEvents() > 0) {
+            log.debug("Stream subscriber {} dropped {} events while lagging", session.getId(), subscriber.droppedEvents());
+        }
+        topics.computeIfPresent(auctionPublicId, (key, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    public int subscriberCount(UUID auctionPublicId) {
+        Set<StreamSubscriber> subscribers = topics.get(auctionPublicId);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    /**
+     * Teklif şeridinde senkron çalışır; yalnızca serileştirip abone kuyruklarına ekler, gönderim gönderici havuzundadır
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidAccepted(BidAcceptedEvent event) {
+        BidResponse bid = event.getBid();
+        publishEvent(event.getAuctionPublicId(), AuctionStreamMessage.builder()
+                .type("BID")
+                .auctionPublicId(event.getAuctionPublicId())
+                .bid(bid)
+                .at(bid.getCreatedAt())
+                .build());
+        publishState(event.getAuctionPublicId(), AuctionStreamMessage.builder()
+                .type("PRICE")
+                .auctionPublicId(event.getAuctionPublicId())
+                .currentPrice(bid.getAmount())
+                .leaderPublicId(bid.getBidderPublicId())
+                .at(bid.getCreatedAt())
+                .build());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidCanceled(BidCanceledEvent event) {
+        // Fiyat düşmüş olabilir; istemci güncel fiyatı REST ucundan yeniden okur
+        publishEvent(event.getAuctionPublicId(), AuctionStreamMessage.builder()
+                .type("BID_CANCELED")
+                .auctionPublicId(event.getAuctionPublicId())
+                .bidPublicId(event.getBidPublicId())
+                .at(LocalDateTime.now())
+                .build());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEndTimeExtended(AuctionEndTimeExtendedEvent event) {
+        publishEvent(event.getAuctionPublicId(), AuctionStreamMessage.builder()
+                .type("END_TIME_EXTENDED")
+                .auctionPublicId(event.getAuctionPublicId())
+                .endTime(event.getEndTime())
+                .at(LocalDateTime.now())
+                .build());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        publishEvent(event.getAuctionPublicId(), AuctionStreamMessage.builder()
+                .type("CLOSED")
+                .auctionPublicId(event.getAuctionPublicId())
+                .sold(event.isSold())
+                .currentPrice(event.getFinalPrice())
+                .leaderPublicId(event.getWinnerPublicId())
+                .at(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Sıralı olarak teslim edilmesi gereken bir olay yayınlar
+     */
+    public void publishEvent(UUID auctionPublicId, AuctionStreamMessage message) {
+        publish(auctionPublicId, message, Delivery.EVENT);
+    }
+
+    /**
+     * Yalnızca en son değeri önemli olan bir durum yayınlar; gönderilmemiş önceki durumun yerine geçer
+     */
+    public void publishState(UUID auctionPublicId, AuctionStreamMessage message) {
+        publish(auctionPublicId, message, Delivery.STATE);
+    }
+
+    /**
+     * Sohbet mesajı yayınlar; olaylardan sonra gönderilir, yavaş istemcide en eski sohbet mesajları düşer
+     */
+    public void publishChat(UUID auctionPublicId, AuctionStreamMessage message) {
+        publish(auctionPublicId, message, Delivery.CHAT);
+    }
+
+    private void publish(UUID auctionPublicId, AuctionStreamMessage message, Delivery delivery) {
+        Set<StreamSubscriber> subscribers = topics.get(auctionPublicId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            log.warn("Stream message could not be serialized for auction: {}", auctionPublicId, e);
+            return;
+        }
+        // Tek payload örneği tüm abonelerin kuyruğuna paylaşılır
+        for (StreamSubscriber subscriber : subscribers) {
+            switch (delivery) {
+                case EVENT -> subscriber.offerEvent(payload);
+                case STATE -> subscriber.offerState(payload);
+                case CHAT -> subscriber.offerChat(payload);
+            }
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * Yavaş istemci gönderici iş parçacığını süresiz tutmasın; süre aşılınca gönderim IOException ile
+     * biter ve bağlantı kapatılır
+     */
+    private void limitSendTime(WebSocketSession session) {
+        if (session instanceof NativeWebSocketSession nativeSession) {
+            jakarta.websocket.Session container = nativeSession.getNativeSession(jakarta.websocket.Session.class);
+            if (container != null) {
+                container.getUserProperties().put(BLOCKING_SEND_TIMEOUT, sendTimeoutMs);
+            }
+        }
+    }
+
+    private void schedule(StreamSubscriber subscriber) {
+        if (!subscriber.tryStartDrain()) {
+            return;
+        }
+        try {
+            senders.execute(() -> drainAndReschedule(subscriber));
+        } catch (RejectedExecutionException e) {
+            // Kapanış sırasında yayıncıya (teklif şeridine) hata taşınmasın
+            subscriber.finishDrain();
+        }
+    }
+
+    private void drainAndReschedule(StreamSubscriber subscriber) {
+        try {
+            subscriber.drain();
+        } catch (IOException | RuntimeException e) {
+            log.debug("Closing stream session {} after send failure: {}", subscriber.session().getId(), e.getMessage());
+            closeQuietly(subscriber.session());
+        } finally {
+            subscriber.finishDrain();
+        }
+        // Boşaltma bittikten sonra gelen mesajlar kaçmasın
+        if (subscriber.hasPending() && subscriber.session().isOpen()) {
+            schedule(subscriber);
+        }
+    }
+
+    private enum Delivery {
+        EVENT, STATE, CHAT
+    }
+
+    private void closeQuietly(WebSocketSession session) {
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("Stream session {} could not be closed cleanly", session.getId());
+        }
+    }
+}
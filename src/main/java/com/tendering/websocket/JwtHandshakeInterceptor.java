@@ -0,0 +1,70 @@
+package com.tendering.websocket;
+
+import com.tendering.repository.UserRepository;
+import com.tendering.security.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * WebSocket el sıkışmasını JWT ile doğrular. Tarayıcılar el sıkışmada Authorization başlığı gönderemediği için
+ * token "access_token" sorgu parametresinden de okunur. Doğrulanan kullanıcının publicId'si oturum özniteliğine yazılır.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+    static final String USER_ATTRIBUTE = "userPublicId";
+    private static final String TOKEN_PARAMETER = "access_token";
+
+    private final JwtUtil jwtUtil;
+    private final UserRepository userRepository;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String token = tokenOf(request);
+        UUID userPublicId = token != null && jwtUtil.validateToken(token) ? publicIdOf(token) : null;
+        if (userPublicId == null || userRepository.findByPublicId(userPublicId).isEmpty()) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        attributes.put(USER_ATTRIBUTE, userPublicId);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+        // İşlem yok
+    }
+
+    private String tokenOf(ServerHttpRequest request) {
+        String header = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith("Bearer ")) {
+            return header.substring(7);
+        }
+        return UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst(TOKEN_PARAMETER);
+    }
+
+    private UUID publicIdOf(String token) {
+        try {
+            String publicId = jwtUtil.getPublicId(token);
+            return publicId != null ? UUID.fromString(publicId) : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejected stream handshake with malformed token subject");
+            return null;
+        }
+    }
+}
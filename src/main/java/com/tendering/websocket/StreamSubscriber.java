@@ -0,0 +1,114 @@
+package com.tendering.websocket;
+
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tek bir WebSocket bağlantısının gönderim kuyruğu.
+ * Olaylar sınırlı bir kuyrukta bekler, taşarsa en eskisi atılır; fiyat durumu tek bir yuvada
+ * birleştirilir, böylece yavaş istemci birikmiş geçmişi değil en son durumu alır. Sohbet mesajları kendi
+ * sınırlı kuyruğunda bekler ve olaylardan sonra gönderilir; sohbet patlaması teklif olaylarını kuyruktan atamaz.
+ */
+final class StreamSubscriber {
+
+    private final WebSocketSession session;
+    private final int maxQueuedEvents;
+    private final int maxQueuedChat;
+    private final Deque<String> events = new ArrayDeque<>();
+    private final Deque<String> chat = new ArrayDeque<>();
+    private final AtomicReference<String> latestState = new AtomicReference<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private long droppedEvents;
+
+    StreamSubscriber(WebSocketSession session, int maxQueuedEvents, int maxQueuedChat) {
+        this.session = session;
+        this.maxQueuedEvents = maxQueuedEvents;
+        this.maxQueuedChat = maxQueuedChat;
+    }
+
+    WebSocketSession session() {
+        return session;
+    }
+
+    void offerEvent(String payload) {
+        synchronized (events) {
+            if (events.size() >= maxQueuedEvents) {
+                events.pollFirst();
+                droppedEvents++;
+            }
+            events.addLast(payload);
+        }
+    }
+
+    void offerChat(String payload) {
+        synchronized (chat) {
+            if (chat.size() >= maxQueuedChat) {
+                chat.pollFirst();
+            }
+            chat.addLast(payload);
+        }
+    }
+
+    void offerState(String payload) {
+        latestState.set(payload);
+    }
+
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void finishDrain() {
+        draining.set(false);
+    }
+
+    boolean hasPending() {
+        synchronized (events) {
+            if (!events.isEmpty()) {
+                return true;
+            }
+        }
+        if (latestState.get() != null) {
+            return true;
+        }
+        synchronized (chat) {
+            return !chat.isEmpty();
+        }
+    }
+
+    long droppedEvents() {
+        synchronized (events) {
+            return droppedEvents;
+        }
+    }
+
+    /**
+     * Bekleyen olayları sırayla, ardından en son durumu, en son sohbet mesajlarını gönderir;
+     * aynı anda yalnızca bir iş parçacığı çağırır
+     */
+    void drain() throws IOException {
+        while (session.isOpen()) {
+            String next;
+            synchronized (events) {
+                next = events.pollFirst();
+            }
+            if (next == null) {
+                next = latestState.getAndSet(null);
+            }
+            if (next == null) {
+                synchronized (chat) {
+                    next = chat.pollFirst();
+                }
+            }
+            if (next == null) {
+                return;
+            }
+            session.sendMessage(new TextMessage(next));
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.tendering.service;
+
+import com.tendering.dto.response.bid.BidResponse;
+import com.tendering.event.BidAcceptedEvent;
+import com.tendering.event.BidCanceledEvent;
+import com.tendering.exceptionHandlers.BidRejectedException;
+import com.tendering.model.Auction;
+import com.tendering.model.Bid;
+import com.tendering.model.User;
+import com.tendering.repository.AuctionRepository;
+import com.tendering.repository.BidRepository;
+import com.tendering.repository.ProxyBidRepository;
+import com.tendering.util.ProxyBidResolver;
+import com.tendering.validator.bid.BidRuleChain;
+import com.tendering.validator.bid.BidRules;
+import com.tendering.validator.bid.BidValidator;
+import com.tendering.validator.bid.BidderFunds;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+public class BidSequencerTest {
+
+    private static final Duration NO_HANG = Duration.ofSeconds(5);
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private BidRepository bidRepository;
+
+    @Mock
+    private ProxyBidRepository proxyBidRepository;
+
+    @Mock
+    private ProxyBidResolver proxyBidResolver;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AuctionDeadlineTracker deadlineTracker;
+
+    @Mock
+    private BidValidator bidValidator;
+
+    private BidSequencer bidSequencer;
+    private Auction auction;
+    private User bidder;
+    private final BidderFunds funds = new BidderFunds(new BigDecimal("1000.00"), false);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        User seller = User.builder().id(1L).publicId(UUID.randomUUID()).name("Seller").surname("Test").build();
+        bidder = User.builder().id(2L).publicId(UUID.randomUUID()).name("Bidder").surname("Test").build();
+        auction = Auction.builder()
+                .id(10L)
+                .publicId(UUID.randomUUID())
+                .title("Test Auction")
+                .seller(seller)
+                .status("ACTIVE")
+                .startTime(LocalDateTime.now().minusHours(1))
+                .endTime(LocalDateTime.now().plusHours(1))
+                .currentPrice(new BigDecimal("100.00"))
+                .minBidIncrement(new BigDecimal("5.00"))
+                .bidCount(0)
+                .build();
+
+        when(auctionRepository.findWithSellerByPublicId(auction.getPublicId())).thenReturn(Optional.of(auction));
+        when(bidRepository.findDistinctBidderPublicIds(auction.getId())).thenReturn(List.of());
+        when(proxyBidRepository.findActiveByAuctionId(auction.getId())).thenReturn(List.of());
+        when(auctionRepository.advanceCurrentPrice(anyLong(), any(), any(), any(), anyInt(), anyInt(), any(), any()))
+                .thenReturn(1);
+        when(bidRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(bidValidator.bidRules()).thenReturn(BidRuleChain.of(
+                BidRules.AUCTION_STATUS, BidRules.BIDDING_WINDOW, BidRules.SELF_BID, BidRules.MINIMUM_INCREMENT));
+
+        bidSequencer = new BidSequencer(auctionRepository, bidRepository, proxyBidRepository, proxyBidResolver,
+                transactionTemplate, eventPublisher, deadlineTracker, bidValidator);
+        ReflectionTestUtils.setField(bidSequencer, "workerThreads", 1);
+        ReflectionTestUtils.setField(bidSequencer, "batchSize", 50);
+        ReflectionTestUtils.setField(bidSequencer, "submitTimeoutMs", 2000L);
+        ReflectionTestUtils.setField(bidSequencer, "outcomeTimeoutMs", 2000L);
+        ReflectionTestUtils.setField(bidSequencer, "maxConflictRetries", 2);
+        ReflectionTestUtils.setField(bidSequencer, "idleLaneTtlMs", 300000L);
+        ReflectionTestUtils.setField(bidSequencer, "softCloseEnabled", false);
+        bidSequencer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        bidSequencer.stop();
+    }
+
+    @Test
+    void testAcceptedBidIsPersistedAndPublished() {
+        BidResponse response = submit("110.00");
+
+        assertEquals(new BigDecimal("110.00"), response.getAmount());
+        assertEquals(bidder.getPublicId(), response.getBidderPublicId());
+        // Olaylar çağıran tamamlandıktan sonra şerit iş parçacığında yayınlanır
+        verify(eventPublisher, timeout(1000)).publishEvent(any(BidAcceptedEvent.class));
+    }
+
+    @Test
+    void testBidBelowMinimumIncrementIsRejectedWithoutWrite() {
+        BidRejectedException exception = assertThrows(BidRejectedException.class, () -> submit("101.00"));
+
+        assertEquals("MINIMUM_INCREMENT", exception.getRule());
+        verify(bidRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testListenerFailureDoesNotFailPersistedBid() {
+        doThrow(new IllegalStateException("listener down")).when(eventPublisher).publishEvent(any());
+
+        BidResponse response = submit("110.00");
+
+        assertEquals(new BigDecimal("110.00"), response.getAmount());
+        verify(bidRepository, times(1)).saveAll(anyList());
+
+        // Dinleyici hatası şeridi bayat saymaz; sonraki teklif durumu yeniden yüklemez
+        submit("120.00");
+        verify(auctionRepository, times(1)).findWithSellerByPublicId(auction.getPublicId());
+    }
+
+    @Test
+    void testPriceConflictIsRetriedAgainstReloadedState() {
+        when(auctionRepository.advanceCurrentPrice(anyLong(), any(), any(), any(), anyInt(), anyInt(), any(), any()))
+                .thenReturn(0, 1);
+
+        BidResponse response = submit("110.00");
+
+        assertEquals(new BigDecimal("110.00"), response.getAmount());
+        verify(auctionRepository, times(2)).findWithSellerByPublicId(auction.getPublicId());
+        verify(bidRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void testPersistentPriceConflictFailsAfterRetries() {
+        when(auctionRepository.advanceCurrentPrice(anyLong(), any(), any(), any(), anyInt(), anyInt(), any(), any()))
+                .thenReturn(0);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> submit("110.00"));
+
+        assertEquals("İhale fiyatı değişti, lütfen tekrar deneyin", exception.getMessage());
+        // İlk yükleme ve her yeniden deneme için birer yükleme
+        verify(auctionRepository, times(3)).findWithSellerByPublicId(auction.getPublicId());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testPersistFailureFailsBatchAndReloadsState() {
+        when(bidRepository.saveAll(anyList()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> submit("110.00"));
+        assertEquals("db down", exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
+
+        submit("110.00");
+        verify(auctionRepository, times(2)).findWithSellerByPublicId(auction.getPublicId());
+    }
+
+    @Test
+    void testUnexpectedLaneErrorFailsClaimedBidInsteadOfHanging() {
+        when(bidValidator.bidRules()).thenThrow(new IllegalStateException("validator broken"));
+
+        IllegalStateException exception = assertTimeoutPreemptively(NO_HANG,
+                () -> assertThrows(IllegalStateException.class, () -> submit("110.00")));
+
+        assertEquals("validator broken", exception.getMessage());
+    }
+
+    @Test
+    void testSlowPersistReportsUnknownOutcomeAfterBoundedWait() throws InterruptedException {
+        ReflectionTestUtils.setField(bidSequencer, "submitTimeoutMs", 100L);
+        ReflectionTestUtils.setField(bidSequencer, "outcomeTimeoutMs", 200L);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch persisting = new CountDownLatch(1);
+        when(bidRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            persisting.countDown();
+            release.await(NO_HANG.toMillis(), TimeUnit.MILLISECONDS);
+            return invocation.getArgument(0);
+        });
+
+        try {
+            IllegalStateException exception = assertTimeoutPreemptively(NO_HANG,
+                    () -> assertThrows(IllegalStateException.class, () -> submit("110.00")));
+
+            assertTrue(persisting.await(1, TimeUnit.SECONDS));
+            assertTrue(exception.getMessage().contains("sonucu belirlenemedi"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testCancelBidRunsOnLaneAndPublishesAfterCommit() {
+        Bid bid = Bid.builder().id(5L).publicId(UUID.randomUUID()).auction(auction).bidder(bidder)
+                .amount(new BigDecimal("110.00")).status("ACTIVE").build();
+        when(bidRepository.findByPublicId(bid.getPublicId())).thenReturn(Optional.of(bid));
+        when(bidRepository.save(bid)).thenReturn(bid);
+
+        BidResponse response = bidSequencer.cancelBid(auction.getPublicId(), bid.getPublicId());
+
+        assertEquals("CANCELED", response.getStatus());
+        verify(auctionRepository).recomputeBidAggregates(auction.getId());
+        verify(eventPublisher, timeout(1000)).publishEvent(any(BidCanceledEvent.class));
+    }
+
+    @Test
+    void testCancelOfInactiveBidIsRejected() {
+        Bid bid = Bid.builder().id(5L).publicId(UUID.randomUUID()).auction(auction).bidder(bidder)
+                .amount(new BigDecimal("110.00")).status("CANCELED").build();
+        when(bidRepository.findByPublicId(bid.getPublicId())).thenReturn(Optional.of(bid));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> bidSequencer.cancelBid(auction.getPublicId(), bid.getPublicId()));
+
+        assertEquals("Sadece aktif teklifler iptal edilebilir", exception.getMessage());
+        verify(auctionRepository, never()).recomputeBidAggregates(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private BidResponse submit(String amount) {
+        return bidSequencer.submit(auction.getPublicId(), bidder, funds, new BigDecimal(amount));
+    }
+}
@@ -0,0 +1,37 @@
+package com.tendering.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvLineParserTest {
+
+    @Test
+    void testSplitsPlainFields() {
+        assertEquals(List.of("a", "b", "c"), CsvLineParser.parse("a,b,c"));
+    }
+
+    @Test
+    void testQuotedFieldKeepsCommasAndEscapedQuotes() {
+        assertEquals(List.of("Vintage, mint", "say \"hi\"", "x"),
+                CsvLineParser.parse("\"Vintage, mint\",\"say \"\"hi\"\"\",x"));
+    }
+
+    @Test
+    void testEmptyUnquotedFieldsAreNull() {
+        assertEquals(Arrays.asList("a", null, null), CsvLineParser.parse("a,,"));
+    }
+
+    @Test
+    void testEmptyQuotedFieldIsEmptyString() {
+        assertEquals(List.of("", "b"), CsvLineParser.parse("\"\",b"));
+    }
+
+    @Test
+    void testUnterminatedQuoteIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CsvLineParser.parse("\"open,b"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.tendering.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventRingBufferTest {
+
+    @Test
+    void testReplaysEventsAfterSequence() {
+        EventRingBuffer<String> buffer = new EventRingBuffer<>(4);
+        buffer.append("a");
+        buffer.append("b");
+        buffer.append("c");
+
+        List<EventRingBuffer.Entry<String>> replay = buffer.since(1).orElseThrow();
+
+        assertEquals(2, replay.size());
+        assertEquals(2, replay.get(0).sequence());
+        assertEquals("b", replay.get(0).event());
+        assertEquals("c", replay.get(1).event());
+    }
+
+    @Test
+    void testUpToDateClientGetsNothing() {
+        EventRingBuffer<String> buffer = new EventRingBuffer<>(4);
+        buffer.append("a");
+
+        assertEquals(Optional.of(List.of()), buffer.since(buffer.lastSequence()));
+    }
+
+    @Test
+    void testOverwrittenPositionReportsGap() {
+        EventRingBuffer<String> buffer = new EventRingBuffer<>(3);
+        for (String event : List.of("a", "b", "c", "d", "e")) {
+            buffer.append(event);
+        }
+
+        assertTrue(buffer.since(1).isEmpty());
+        assertEquals(List.of("c", "d", "e"),
+                buffer.since(2).orElseThrow().stream().map(EventRingBuffer.Entry::event).toList());
+    }
+
+    @Test
+    void testSequenceFromTheFutureReportsGap() {
+        EventRingBuffer<String> buffer = new EventRingBuffer<>(3);
+        buffer.append("a");
+
+        assertTrue(buffer.since(5).isEmpty());
+    }
+}
@@ -0,0 +1,70 @@
+package com.tendering.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    void testKeyExpiresOnlyAfterDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, 3, START);
+        wheel.schedule("a", START + 450);
+
+        assertTrue(wheel.advance(START + 400).isEmpty());
+        assertEquals(List.of("a"), wheel.advance(START + 500));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testDistantDeadlineCascadesDownToLowestLevel() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, 3, START);
+        // 8 * 8 tick'ten uzak olduğu için en üst seviyeye yerleşir
+        wheel.schedule("far", START + 10_000);
+
+        assertTrue(wheel.advance(START + 9_900).isEmpty());
+        assertEquals(List.of("far"), wheel.advance(START + 10_000));
+    }
+
+    @Test
+    void testDeadlineBeyondAllLevelsIsKept() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 4, 2, START);
+        wheel.schedule("overflow", START + 5_000);
+
+        assertTrue(wheel.advance(START + 4_900).isEmpty());
+        assertEquals(List.of("overflow"), wheel.advance(START + 5_000));
+    }
+
+    @Test
+    void testRescheduleReplacesPreviousDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, 3, START);
+        wheel.schedule("a", START + 500);
+        wheel.advance(START + 300);
+        wheel.schedule("a", START + 2_000);
+
+        assertTrue(wheel.advance(START + 1_900).isEmpty());
+        assertEquals(START + 2_000, wheel.deadlineOf("a"));
+        assertEquals(List.of("a"), wheel.advance(START + 2_000));
+    }
+
+    @Test
+    void testCanceledKeyNeverExpires() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, 3, START);
+        wheel.schedule("a", START + 500);
+
+        assertTrue(wheel.cancel("a"));
+        assertTrue(wheel.advance(START + 10_000).isEmpty());
+    }
+
+    @Test
+    void testPastDeadlineExpiresOnNextTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, 3, START);
+        wheel.schedule("late", START - 5_000);
+
+        assertEquals(List.of("late"), wheel.advance(START + 100));
+    }
+}
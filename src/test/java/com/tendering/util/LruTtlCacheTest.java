@@ -0,0 +1,49 @@
+package com.tendering.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LruTtlCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+
+    @Test
+    void testEvictsLeastRecentlyUsedWhenFull() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(2, Duration.ofMinutes(1), now::get);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testEntryExpiresAfterTtl() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(10, Duration.ofSeconds(5), now::get);
+        cache.put("a", 1);
+
+        now.addAndGet(4_999L);
+        assertEquals(1, cache.get("a"));
+
+        now.addAndGet(1L);
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testInvalidateRemovesEntry() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(10, Duration.ofMinutes(1), now::get);
+        cache.put("a", 1);
+        cache.invalidate("a");
+
+        assertNull(cache.get("a"));
+    }
+}
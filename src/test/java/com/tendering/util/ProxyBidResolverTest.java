@@ -0,0 +1,114 @@
+package com.tendering.util;
+
+import com.tendering.model.ProxyBid;
+import com.tendering.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProxyBidResolverTest {
+
+    private final ProxyBidResolver resolver = new ProxyBidResolver();
+    private final BigDecimal increment = new BigDecimal("5.00");
+
+    private User alice;
+    private User bob;
+    private User carol;
+
+    @BeforeEach
+    void setUp() {
+        alice = user("Alice");
+        bob = user("Bob");
+        carol = user("Carol");
+    }
+
+    @Test
+    void testSingleProxyOutbidsManualLeaderByOneIncrement() {
+        ProxyBid aliceProxy = proxy(1L, alice, "200.00");
+
+        ProxyBidResolver.Resolution resolution = resolver.resolve(
+                new BigDecimal("100.00"), bob.getPublicId(), increment, List.of(aliceProxy));
+
+        assertEquals(1, resolution.steps().size());
+        assertSame(aliceProxy, resolution.steps().get(0).proxy());
+        assertEquals(new BigDecimal("105.00"), resolution.finalPrice());
+        assertEquals(alice.getPublicId(), resolution.leaderPublicId());
+        assertTrue(resolution.exhausted().isEmpty());
+    }
+
+    @Test
+    void testLeadingProxyDoesNotBidAgainstItself() {
+        ProxyBid aliceProxy = proxy(1L, alice, "200.00");
+
+        ProxyBidResolver.Resolution resolution = resolver.resolve(
+                new BigDecimal("100.00"), alice.getPublicId(), increment, List.of(aliceProxy));
+
+        assertTrue(resolution.steps().isEmpty());
+        assertEquals(new BigDecimal("100.00"), resolution.finalPrice());
+    }
+
+    @Test
+    void testCompetingProxiesSettleAtSecondPricePlusIncrement() {
+        ProxyBid aliceProxy = proxy(1L, alice, "300.00");
+        ProxyBid bobProxy = proxy(2L, bob, "150.00");
+
+        ProxyBidResolver.Resolution resolution = resolver.resolve(
+                new BigDecimal("100.00"), carol.getPublicId(), increment, List.of(bobProxy, aliceProxy));
+
+        assertEquals(2, resolution.steps().size());
+        assertSame(bobProxy, resolution.steps().get(0).proxy());
+        assertEquals(new BigDecimal("150.00"), resolution.steps().get(0).amount());
+        assertSame(aliceProxy, resolution.steps().get(1).proxy());
+        assertEquals(new BigDecimal("155.00"), resolution.steps().get(1).amount());
+        assertEquals(alice.getPublicId(), resolution.leaderPublicId());
+        assertEquals(List.of(bobProxy), resolution.exhausted());
+    }
+
+    @Test
+    void testEqualMaximumsFavourEarliestRegistration() {
+        ProxyBid aliceProxy = proxy(1L, alice, "200.00");
+        ProxyBid bobProxy = proxy(2L, bob, "200.00");
+
+        ProxyBidResolver.Resolution resolution = resolver.resolve(
+                new BigDecimal("100.00"), carol.getPublicId(), increment, List.of(bobProxy, aliceProxy));
+
+        assertEquals(alice.getPublicId(), resolution.leaderPublicId());
+        assertEquals(new BigDecimal("200.00"), resolution.finalPrice());
+        assertEquals(new BigDecimal("195.00"), resolution.steps().get(0).amount());
+        assertEquals(List.of(bobProxy), resolution.exhausted());
+    }
+
+    @Test
+    void testProxyBelowMinimumIsExhaustedWithoutBidding() {
+        ProxyBid aliceProxy = proxy(1L, alice, "102.00");
+
+        ProxyBidResolver.Resolution resolution = resolver.resolve(
+                new BigDecimal("100.00"), bob.getPublicId(), increment, List.of(aliceProxy));
+
+        assertTrue(resolution.steps().isEmpty());
+        assertEquals(bob.getPublicId(), resolution.leaderPublicId());
+        assertEquals(List.of(aliceProxy), resolution.exhausted());
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .publicId(UUID.randomUUID())
+                .name(name)
+                .surname("Test")
+                .build();
+    }
+
+    private ProxyBid proxy(Long id, User bidder, String maxAmount) {
+        return ProxyBid.builder()
+                .id(id)
+                .bidder(bidder)
+                .maxAmount(new BigDecimal(maxAmount))
+                .status("ACTIVE")
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.tendering.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    @Test
+    void testAllowsBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 1.0, now::get);
+
+        assertEquals(0, bucket.tryAcquire());
+        assertEquals(0, bucket.tryAcquire());
+        assertEquals(0, bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire() > 0);
+    }
+
+    @Test
+    void testRetryHintMatchesRefillRate() {
+        TokenBucket bucket = new TokenBucket(1, 2.0, now::get);
+
+        assertEquals(0, bucket.tryAcquire());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), bucket.tryAcquire());
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(0, bucket.tryAcquire());
+    }
+
+    @Test
+    void testRejectedAttemptDoesNotConsumeToken() {
+        TokenBucket bucket = new TokenBucket(1, 1.0, now::get);
+        bucket.tryAcquire();
+        bucket.tryAcquire();
+        bucket.tryAcquire();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(0, bucket.tryAcquire());
+    }
+
+    @Test
+    void testBucketIsFullAfterIdlePeriod() {
+        TokenBucket bucket = new TokenBucket(2, 1.0, now::get);
+        bucket.tryAcquire();
+        assertFalse(bucket.isFull());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertTrue(bucket.isFull());
+    }
+}
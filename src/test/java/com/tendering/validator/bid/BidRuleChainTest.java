@@ -0,0 +1,101 @@
+package com.tendering.validator.bid;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BidRuleChainTest {
+
+    private final UUID seller = UUID.randomUUID();
+    private final UUID bidder = UUID.randomUUID();
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final BidRuleChain chain = BidRuleChain.of(
+            BidRules.AUCTION_STATUS, BidRules.BIDDING_WINDOW, BidRules.SELF_BID, BidRules.MINIMUM_INCREMENT)
+            .then(BidRules.WALLET_SUFFICIENCY);
+
+    @Test
+    void testValidBidPassesAllRules() {
+        BidValidationResult result = chain.validate(context("ACTIVE", bidder, "110.00", funds("500.00")).build());
+
+        assertTrue(result.valid());
+        assertNull(result.failedRule());
+    }
+
+    @Test
+    void testFirstFailingRuleIsReported() {
+        // Hem ihale kapalı hem tutar düşük; yalnızca ilk kural raporlanır
+        BidValidationResult result = chain.validate(context("COMPLETED", bidder, "101.00", funds("500.00")).build());
+
+        assertFalse(result.valid());
+        assertEquals("AUCTION_STATUS", result.failedRule());
+    }
+
+    @Test
+    void testBidAfterEndTimeIsRejected() {
+        BidValidationResult result = chain.validate(context("ACTIVE", bidder, "110.00", funds("500.00"))
+                .endTime(now.minusSeconds(1))
+                .build());
+
+        assertEquals("BIDDING_WINDOW", result.failedRule());
+    }
+
+    @Test
+    void testSellerCannotBidOnOwnAuction() {
+        BidValidationResult result = chain.validate(context("ACTIVE", seller, "110.00", funds("500.00")).build());
+
+        assertEquals("SELF_BID", result.failedRule());
+    }
+
+    @Test
+    void testBidBelowMinimumIncrementIsRejected() {
+        BidValidationResult result = chain.validate(context("ACTIVE", bidder, "104.99", funds("500.00")).build());
+
+        assertEquals("MINIMUM_INCREMENT", result.failedRule());
+    }
+
+    @Test
+    void testInsufficientOrMissingWalletIsRejected() {
+        assertEquals("WALLET_SUFFICIENCY",
+                chain.validate(context("ACTIVE", bidder, "110.00", funds("50.00")).build()).failedRule());
+        assertEquals("WALLET_SUFFICIENCY",
+                chain.validate(context("ACTIVE", bidder, "110.00", null).build()).failedRule());
+        assertEquals("WALLET_SUFFICIENCY",
+                chain.validate(context("ACTIVE", bidder, "110.00", new BidderFunds(new BigDecimal("500.00"), true)).build()).failedRule());
+    }
+
+    @Test
+    void testLeaderMayLowerProxyMaximumToCurrentPrice() {
+        BidRuleChain proxyChain = BidRuleChain.of(BidRules.PROXY_MINIMUM);
+
+        BidValidationContext leader = context("ACTIVE", bidder, "100.00", funds("500.00")).leaderPublicId(bidder).build();
+        BidValidationContext challenger = context("ACTIVE", bidder, "100.00", funds("500.00")).build();
+
+        assertTrue(proxyChain.validate(leader).valid());
+        assertEquals("PROXY_MINIMUM", proxyChain.validate(challenger).failedRule());
+    }
+
+    private BidValidationContext.BidValidationContextBuilder context(String status, UUID bidderPublicId,
+                                                                     String amount, BidderFunds funds) {
+        return BidValidationContext.builder()
+                .auctionPublicId(UUID.randomUUID())
+                .sellerPublicId(seller)
+                .auctionStatus(status)
+                .startTime(now.minusHours(1))
+                .endTime(now.plusHours(1))
+                .currentPrice(new BigDecimal("100.00"))
+                .minBidIncrement(new BigDecimal("5.00"))
+                .bidderPublicId(bidderPublicId)
+                .funds(funds)
+                .amount(new BigDecimal(amount))
+                .now(now);
+    }
+
+    private BidderFunds funds(String balance) {
+        return new BidderFunds(new BigDecimal(balance), false);
+    }
+}